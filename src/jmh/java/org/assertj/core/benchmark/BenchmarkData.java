@@ -0,0 +1,114 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Data shared by benchmarks.
+ */
+final class BenchmarkData {
+
+  static final String INTEGER = "Integer";
+  static final String STRING = "String";
+
+  // fixed seed to get the same data from one run to another
+  private static final long SEED = 42;
+
+  /**
+   * Returns {@code size} distinct elements of the given type, {@value #INTEGER} or {@value #STRING}.
+   */
+  static List<Object> elements(String elementType, int size) {
+    List<Object> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      elements.add(element(elementType, i));
+    }
+    return elements;
+  }
+
+  private static Object element(String elementType, int i) {
+    if (INTEGER.equals(elementType)) return i;
+    if (STRING.equals(elementType)) return "element-" + i;
+    throw new IllegalArgumentException("Unknown element type " + elementType);
+  }
+
+  static <T> List<T> shuffled(List<T> elements) {
+    List<T> shuffled = new ArrayList<>(elements);
+    Collections.shuffle(shuffled, new Random(SEED));
+    return shuffled;
+  }
+
+  static List<Person> persons(int size) {
+    List<Person> persons = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      persons.add(new Person(new Name("first-" + i, "last-" + i), i % 100, "nickname-" + i));
+    }
+    return persons;
+  }
+
+  static class Person {
+    private final Name name;
+    private final int age;
+    public final String nickname;
+
+    Person(Name name, int age, String nickname) {
+      this.name = name;
+      this.age = age;
+      this.nickname = nickname;
+    }
+
+    public Name getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+  }
+
+  static class Name {
+    private final String first;
+    private final String last;
+
+    Name(String first, String last) {
+      this.first = first;
+      this.last = last;
+    }
+
+    public String getFirst() {
+      return first;
+    }
+
+    public String getLast() {
+      return last;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Name)) return false;
+      Name other = (Name) obj;
+      return first.equals(other.first) && last.equals(other.last);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * first.hashCode() + last.hashCode();
+    }
+  }
+
+  private BenchmarkData() {}
+}
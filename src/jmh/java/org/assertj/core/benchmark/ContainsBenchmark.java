@@ -0,0 +1,90 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.benchmark.BenchmarkData.elements;
+import static org.assertj.core.benchmark.BenchmarkData.shuffled;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passing {@code containsOnly}, {@code containsOnlyOnce} and {@code containsExactly} assertions on iterables and
+ * arrays (see {@code internal.Iterables} and {@code internal.Arrays}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ContainsBenchmark {
+
+  @Param({ "10", "1000", "100000" })
+  public int size;
+
+  @Param({ BenchmarkData.INTEGER, BenchmarkData.STRING })
+  public String elementType;
+
+  private List<Object> actual;
+  private Object[] actualArray;
+  private Object[] values;
+  private Object[] shuffledValues;
+
+  @Setup
+  public void setUp() {
+    actual = elements(elementType, size);
+    actualArray = actual.toArray();
+    // equal but not same elements
+    values = elements(elementType, size).toArray();
+    shuffledValues = shuffled(elements(elementType, size)).toArray();
+  }
+
+  @Benchmark
+  public Object iterableContainsOnly() {
+    return assertThat(actual).containsOnly(shuffledValues);
+  }
+
+  @Benchmark
+  public Object iterableContainsOnlyOnce() {
+    return assertThat(actual).containsOnlyOnce(shuffledValues);
+  }
+
+  @Benchmark
+  public Object iterableContainsExactly() {
+    return assertThat(actual).containsExactly(values);
+  }
+
+  @Benchmark
+  public Object arrayContainsOnly() {
+    return assertThat(actualArray).containsOnly(shuffledValues);
+  }
+
+  @Benchmark
+  public Object arrayContainsExactly() {
+    return assertThat(actualArray).containsExactly(values);
+  }
+}
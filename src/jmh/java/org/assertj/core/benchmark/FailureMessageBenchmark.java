@@ -0,0 +1,112 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.benchmark.BenchmarkData.elements;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Failures: formatting of values and error messages, line and binary diffs of contents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class FailureMessageBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  public int size;
+
+  @Param({ BenchmarkData.INTEGER, BenchmarkData.STRING })
+  public String elementType;
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+  private final Diff diff = new Diff();
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  private List<Object> actual;
+  private Object[] missingValues;
+  private byte[] actualText;
+  private byte[] expectedText;
+  private byte[] actualBytes;
+  private byte[] expectedBytes;
+
+  @Setup
+  public void setUp() {
+    actual = elements(elementType, size);
+    List<Object> values = new ArrayList<>(actual);
+    values.set(size / 2, "missing");
+    missingValues = values.toArray();
+
+    StringBuilder text = new StringBuilder();
+    for (Object element : actual) {
+      text.append(element).append('\n');
+    }
+    expectedText = text.toString().getBytes();
+    // one line inserted in the middle
+    text.insert(text.length() / 2, "inserted\n");
+    actualText = text.toString().getBytes();
+
+    expectedBytes = new byte[size * 1024];
+    actualBytes = expectedBytes.clone();
+    actualBytes[actualBytes.length - 1] = 1;
+  }
+
+  @Benchmark
+  public String toStringOfIterable() {
+    return representation.toStringOf(actual);
+  }
+
+  @Benchmark
+  public String containsOnlyErrorMessage() {
+    try {
+      assertThat(actual).containsOnly(missingValues);
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+    throw new IllegalStateException("containsOnly should have failed");
+  }
+
+  @Benchmark
+  public Object lineDiff() throws IOException {
+    return diff.diff(new ByteArrayInputStream(actualText), new ByteArrayInputStream(expectedText));
+  }
+
+  @Benchmark
+  public Object binaryDiff() throws IOException {
+    return binaryDiff.diff(new ByteArrayInputStream(actualBytes), new ByteArrayInputStream(expectedBytes));
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.benchmark.BenchmarkData.persons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.benchmark.BenchmarkData.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Field by field comparisons of objects and of iterable elements (see {@code internal.Objects}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class FieldByFieldComparisonBenchmark {
+
+  @Param({ "10", "1000", "10000" })
+  public int size;
+
+  private List<Person> actual;
+  private Person[] expected;
+
+  @Setup
+  public void setUp() {
+    actual = persons(size);
+    // equal but not same persons
+    expected = persons(size).toArray(new Person[size]);
+  }
+
+  @Benchmark
+  public Object isEqualToIgnoringGivenFields() {
+    return assertThat(actual.get(0)).isEqualToIgnoringGivenFields(expected[0], "age");
+  }
+
+  @Benchmark
+  public Object isEqualToComparingFieldByField() {
+    return assertThat(actual.get(0)).isEqualToComparingFieldByField(expected[0]);
+  }
+
+  @Benchmark
+  public Object containsExactlyUsingFieldByFieldElementComparator() {
+    return assertThat(actual).usingFieldByFieldElementComparator().containsExactly(expected);
+  }
+
+  @Benchmark
+  public Object containsExactlyUsingElementComparatorOnFields() {
+    return assertThat(actual).usingElementComparatorOnFields("name", "nickname").containsExactly(expected);
+  }
+
+  @Benchmark
+  public Object containsOnlyUsingElementComparatorIgnoringFields() {
+    return assertThat(actual).usingElementComparatorIgnoringFields("age").containsOnly(expected);
+  }
+}
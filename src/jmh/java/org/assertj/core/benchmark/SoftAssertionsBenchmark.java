@@ -0,0 +1,81 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of soft assertions (proxied assert classes, see {@code SoftProxies}) compared to standard assertions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class SoftAssertionsBenchmark {
+
+  private final String actual = "Frodo";
+  private final List<Object> actualList = BenchmarkData.elements(BenchmarkData.INTEGER, 10);
+  private SoftAssertions softly;
+
+  @Setup
+  public void setUp() {
+    softly = new SoftAssertions();
+  }
+
+  @Benchmark
+  public Object hardAssertion() {
+    return assertThat(actual).startsWith("Fro").endsWith("do");
+  }
+
+  @Benchmark
+  public Object softAssertion() {
+    return softly.assertThat(actual).startsWith("Fro").endsWith("do");
+  }
+
+  @Benchmark
+  public Object hardExtractingAssertion() {
+    return assertThat(actualList).extracting("class").contains(Integer.class);
+  }
+
+  @Benchmark
+  public Object softExtractingAssertion() {
+    return softly.assertThat(actualList).extracting("class").contains(Integer.class);
+  }
+
+  @Benchmark
+  public SoftAssertions softAssertionsLifecycle() {
+    SoftAssertions softAssertions = new SoftAssertions();
+    softAssertions.assertThat(actual).startsWith("Fro");
+    softAssertions.assertThat(actual).endsWith("do");
+    softAssertions.assertThat(actualList).hasSize(10);
+    softAssertions.assertAll();
+    return softAssertions;
+  }
+}
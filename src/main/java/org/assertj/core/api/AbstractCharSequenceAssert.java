@@ -390,6 +390,33 @@ public abstract class AbstractCharSequenceAssert<S extends AbstractCharSequenceA
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code CharSequence} does not contain any of the given values.
+   * <p>
+   * Example :
+   * 
+   * <pre><code class='java'>
+   * // assertion will pass
+   * assertThat(&quot;Frodo&quot;).doesNotContain(&quot;gandalf&quot;, &quot;sam&quot;);
+   * 
+   * // assertion will fail
+   * assertThat(&quot;Frodo&quot;).doesNotContain(&quot;sam&quot;, &quot;Fro&quot;);
+   * </code></pre>
+   * 
+   * </p>
+   * 
+   * @param values the values to search for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if one of the given values is {@code null}.
+   * @throws IllegalArgumentException if the given values is empty.
+   * @throws AssertionError if the actual {@code CharSequence} is {@code null}.
+   * @throws AssertionError if the actual {@code CharSequence} contains one of the given values.
+   */
+  public S doesNotContain(CharSequence... values) {
+    strings.assertDoesNotContain(info, actual, values);
+    return myself;
+  }
+
   /**
    * Verifies that the actual {@code CharSequence} starts with the given prefix.
    * <p>
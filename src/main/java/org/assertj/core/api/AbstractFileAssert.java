@@ -151,6 +151,86 @@ public abstract class AbstractFileAssert<S extends AbstractFileAssert<S>> extend
     return myself;
   }
 
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the file is read by chunks.
+   * <p>
+   * Example :
+   * <pre><code class='java'>
+   * byte[] sha256 = MessageDigest.getInstance(&quot;SHA-256&quot;).digest(&quot;The Truth Is Out There&quot;.getBytes());
+   * 
+   * // assertion will pass if xfile.txt content is &quot;The Truth Is Out There&quot;
+   * assertThat(new File(&quot;xfile.txt&quot;)).hasDigest(&quot;SHA-256&quot;, sha256);
+   * </code></pre>
+   * 
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the given digest.
+   */
+  public S hasDigest(String algorithm, byte[] expected) {
+    files.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the given digest, the file is read by chunks.
+   * <p>
+   * Example :
+   * <pre><code class='java'>
+   * // assertion will pass if abc.txt content is &quot;abc&quot;
+   * assertThat(new File(&quot;abc.txt&quot;)).hasDigest(&quot;MD5&quot;, &quot;900150983cd24fb0d6963f7d28e17f72&quot;);
+   * </code></pre>
+   * 
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest in hexadecimal, case is ignored.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if the given digest is not a valid hexadecimal string.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the given digest.
+   */
+  public S hasDigest(String algorithm, String expected) {
+    files.assertHasDigest(info, actual, algorithm, expected);
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code File} has the same digest as the content of the given one, both
+   * files are read by chunks.
+   * <p>
+   * Comparing digests rather than contents is useful when the same expected (golden) file is compared to many actual
+   * files: when {@link Assertions#setCacheExpectedFileDigests(boolean)} is enabled, the expected file is only digested
+   * once as long as it is not modified.
+   * <p>
+   * Example :
+   * <pre><code class='java'>
+   * assertThat(new File(&quot;export.csv&quot;)).hasSameDigestAs(&quot;SHA-256&quot;, new File(&quot;golden/export.csv&quot;));
+   * </code></pre>
+   * 
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the given {@code File} to compare the actual {@code File} digest to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or {@code File} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if the given {@code File} is not an existing file.
+   * @throws AssertionError if the actual {@code File} is {@code null}.
+   * @throws AssertionError if the actual {@code File} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code File} does not have the same digest as the given one.
+   */
+  public S hasSameDigestAs(String algorithm, File expected) {
+    files.assertHasSameDigestAs(info, actual, algorithm, expected);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the file's contents.
    * 
@@ -52,4 +52,110 @@ public abstract class AbstractInputStreamAssert<S extends AbstractInputStreamAss
 		inputStreams.assertEqualContent(info, actual, expected);
 		return myself;
 	}
+
+	/**
+	 * Verifies that the content of the actual {@code InputStream} is byte for byte the same as the content of the given
+	 * one.
+	 * <p>
+	 * Unlike {@link #hasContentEqualTo(InputStream)}, both streams are read by chunks and only up to their first
+	 * difference, which is reported with its offset and the bytes around it, large streams can thus be compared in
+	 * bounded memory.
+	 * <p>
+	 * Example :
+	 * <pre><code class='java'>
+	 * // assertion will pass
+	 * assertThat(new ByteArrayInputStream(new byte[] {0xa})).hasSameContentAs(new ByteArrayInputStream(new byte[] {0xa}));
+	 *
+	 * // assertion will fail
+	 * assertThat(new ByteArrayInputStream(new byte[] {0xa})).hasSameContentAs(new ByteArrayInputStream(new byte[] {0xb}));
+	 * </code></pre>
+	 *
+	 * @param expected the given {@code InputStream} to compare the actual {@code InputStream} to.
+	 * @return {@code this} assertion object.
+	 * @throws NullPointerException if the given {@code InputStream} is {@code null}.
+	 * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+	 * @throws AssertionError if the content of the actual {@code InputStream} is not the same as the content of the
+	 *           given one.
+	 * @throws InputStreamsException if an I/O error occurs.
+	 */
+	public S hasSameContentAs(InputStream expected) {
+		inputStreams.assertSameContentAs(info, actual, expected);
+		return myself;
+	}
+
+	/**
+	 * Verifies that the content of the actual {@code InputStream} has the given digest, the stream is read until its end.
+	 * <p>
+	 * Example :
+	 * <pre><code class='java'>
+	 * byte[] md5 = MessageDigest.getInstance(&quot;MD5&quot;).digest(&quot;abc&quot;.getBytes());
+	 *
+	 * // assertion will pass
+	 * assertThat(new ByteArrayInputStream(&quot;abc&quot;.getBytes())).hasDigest(&quot;MD5&quot;, md5);
+	 * </code></pre>
+	 *
+	 * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+	 * @param expected the expected digest.
+	 * @return {@code this} assertion object.
+	 * @throws NullPointerException if the given algorithm or digest is {@code null}.
+	 * @throws IllegalArgumentException if no provider supports the given algorithm.
+	 * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+	 * @throws AssertionError if the content of the actual {@code InputStream} does not have the given digest.
+	 * @throws InputStreamsException if an I/O error occurs.
+	 */
+	public S hasDigest(String algorithm, byte[] expected) {
+		inputStreams.assertHasDigest(info, actual, algorithm, expected);
+		return myself;
+	}
+
+	/**
+	 * Verifies that the content of the actual {@code InputStream} has the given digest, the stream is read until its end.
+	 * <p>
+	 * Example :
+	 * <pre><code class='java'>
+	 * // assertion will pass
+	 * assertThat(new ByteArrayInputStream(&quot;abc&quot;.getBytes())).hasDigest(&quot;MD5&quot;, &quot;900150983cd24fb0d6963f7d28e17f72&quot;);
+	 *
+	 * // assertion will fail
+	 * assertThat(new ByteArrayInputStream(&quot;abc&quot;.getBytes())).hasDigest(&quot;MD5&quot;, &quot;00000000000000000000000000000000&quot;);
+	 * </code></pre>
+	 *
+	 * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+	 * @param expected the expected digest in hexadecimal, case is ignored.
+	 * @return {@code this} assertion object.
+	 * @throws NullPointerException if the given algorithm or digest is {@code null}.
+	 * @throws IllegalArgumentException if no provider supports the given algorithm.
+	 * @throws IllegalArgumentException if the given digest is not a valid hexadecimal string.
+	 * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+	 * @throws AssertionError if the content of the actual {@code InputStream} does not have the given digest.
+	 * @throws InputStreamsException if an I/O error occurs.
+	 */
+	public S hasDigest(String algorithm, String expected) {
+		inputStreams.assertHasDigest(info, actual, algorithm, expected);
+		return myself;
+	}
+
+	/**
+	 * Verifies that the actual {@code InputStream} has the given number of bytes, the stream is read until its end.
+	 * <p>
+	 * Example :
+	 * <pre><code class='java'>
+	 * // assertion will pass
+	 * assertThat(new ByteArrayInputStream(new byte[] {1, 2, 3})).hasSize(3);
+	 *
+	 * // assertion will fail
+	 * assertThat(new ByteArrayInputStream(new byte[] {1, 2, 3})).hasSize(2);
+	 * </code></pre>
+	 *
+	 * @param expectedSize the expected number of bytes.
+	 * @return {@code this} assertion object.
+	 * @throws IllegalArgumentException if the given size is negative.
+	 * @throws AssertionError if the actual {@code InputStream} is {@code null}.
+	 * @throws AssertionError if the actual {@code InputStream} does not have the given number of bytes.
+	 * @throws InputStreamsException if an I/O error occurs.
+	 */
+	public S hasSize(long expectedSize) {
+		inputStreams.assertHasSize(info, actual, expectedSize);
+		return myself;
+	}
 }
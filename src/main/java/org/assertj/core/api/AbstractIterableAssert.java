@@ -414,6 +414,93 @@ public abstract class AbstractIterableAssert<S extends AbstractIterableAssert<S,
 	return myself;
   }
 
+  /**
+   * Verifies that the actual {@code Iterable} is sorted into ascending order according to the natural ordering of its
+   * elements.
+   * <p>
+   * All elements must implement the {@link Comparable} interface and must be mutually comparable. Empty iterables are
+   * considered sorted, unique element iterables are considered sorted unless the element type is not Comparable.
+   * <p>
+   * Elements are read once, the actual {@code Iterable} does not need to be a {@code List}.
+   * <p>
+   * Example :
+   * <pre><code class='java'>
+   * // assertion will pass
+   * assertThat(new TreeSet&lt;String&gt;(newArrayList("Luke", "Yoda", "Leia"))).isSorted();
+   * assertThat(newArrayList("Leia", "Luke", "Luke", "Yoda")).isSorted();
+   *
+   * // assertion will fail
+   * assertThat(newArrayList("Luke", "Leia")).isSorted();
+   * </code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted into ascending order.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually {@link Comparable}.
+   */
+  public S isSorted() {
+	iterables.assertIsSorted(info, actual);
+	return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is sorted according to the given comparator. Empty iterables are
+   * considered sorted whatever the comparator is, one element iterables are considered sorted if the element is
+   * compatible with the comparator.
+   *
+   * @param comparator the {@link Comparator} used to compare elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted according to the given comparator.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually comparable according to the given
+   *           comparator.
+   */
+  public S isSortedAccordingTo(Comparator<? super T> comparator) {
+	iterables.assertIsSortedAccordingToComparator(info, actual, comparator);
+	return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is sorted into strictly ascending order according to the natural
+   * ordering of its elements, i.e. that each element is less than the next one (no duplicates).
+   * <p>
+   * Example :
+   * <pre><code class='java'>
+   * // assertion will pass
+   * assertThat(newArrayList("Leia", "Luke", "Yoda")).isStrictlySorted();
+   *
+   * // assertion will fail as "Luke" is not less than "Luke"
+   * assertThat(newArrayList("Leia", "Luke", "Luke", "Yoda")).isStrictlySorted();
+   * </code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted into strictly ascending order.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually {@link Comparable}.
+   */
+  public S isStrictlySorted() {
+	iterables.assertIsStrictlySorted(info, actual);
+	return myself;
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is strictly sorted according to the given comparator, i.e. that each
+   * element is less than the next one according to the comparator.
+   *
+   * @param comparator the {@link Comparator} used to compare elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual {@code Iterable} is not strictly sorted according to the given comparator.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually comparable according to the given
+   *           comparator.
+   */
+  public S isStrictlySortedAccordingTo(Comparator<? super T> comparator) {
+	iterables.assertIsStrictlySortedAccordingToComparator(info, actual, comparator);
+	return myself;
+  }
+
   /**
    * {@inheritDoc}
    */
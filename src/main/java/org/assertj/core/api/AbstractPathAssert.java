@@ -161,6 +161,109 @@ public abstract class AbstractPathAssert<S extends AbstractPathAssert<S>> extend
 	return myself;
   }
 
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the file is read by chunks.
+   *
+   * <p>
+   * Examples:
+   * </p>
+   *
+   * <pre><code class="java">
+   * Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   * byte[] sha256 = MessageDigest.getInstance("SHA-256").digest("The Truth Is Out There".getBytes());
+   *
+   * // The following assertion succeeds:
+   * assertThat(xFile).hasDigest("SHA-256", sha256);
+   * </code></pre>
+   *
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing readable file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the given digest.
+   */
+  public S hasDigest(String algorithm, byte[] expected) {
+	paths.assertHasDigest(info, actual, algorithm, expected);
+	return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the given digest, the file is read by chunks.
+   *
+   * <p>
+   * Examples:
+   * </p>
+   *
+   * <pre><code class="java">
+   * Path abcFile = Files.write(Paths.get("abc.txt"), "abc".getBytes());
+   *
+   * // The following assertion succeeds:
+   * assertThat(abcFile).hasDigest("MD5", "900150983cd24fb0d6963f7d28e17f72");
+   *
+   * // The following assertion fails:
+   * assertThat(abcFile).hasDigest("MD5", "00000000000000000000000000000000");
+   * </code></pre>
+   *
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest in hexadecimal, case is ignored.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or digest is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if the given digest is not a valid hexadecimal string.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing readable file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the given digest.
+   */
+  public S hasDigest(String algorithm, String expected) {
+	paths.assertHasDigest(info, actual, algorithm, expected);
+	return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual {@code Path} has the same digest as the content of the given one, both
+   * files are read by chunks.
+   * <p>
+   * Comparing digests rather than contents is useful when the same expected (golden) file is compared to many actual
+   * files: when {@link Assertions#setCacheExpectedFileDigests(boolean)} is enabled, the expected file is only digested
+   * once as long as it is not modified.
+   *
+   * <p>
+   * Examples:
+   * </p>
+   *
+   * <pre><code class="java">
+   * Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   * Path xFileClone = Files.write(Paths.get("xfile-clone.txt"), "The Truth Is Out There".getBytes());
+   * Path xFileFrench = Files.write(Paths.get("xfile-french.txt"), "La Vérité Est Ailleurs".getBytes());
+   *
+   * // The following assertion succeeds:
+   * assertThat(xFile).hasSameDigestAs("SHA-256", xFileClone);
+   *
+   * // The following assertion fails:
+   * assertThat(xFile).hasSameDigestAs("SHA-256", xFileFrench);
+   * </code></pre>
+   *
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the given {@code Path} to compare the actual {@code Path} digest to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given algorithm or {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if the given {@code Path} is not readable.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} is not an existing readable file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual {@code Path} does not have the same digest as the given one.
+   */
+  public S hasSameDigestAs(String algorithm, Path expected) {
+	paths.assertHasSameDigestAs(info, actual, algorithm, expected);
+	return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the path's contents (path must be a readable
    * file).
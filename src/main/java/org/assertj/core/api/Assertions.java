@@ -34,6 +34,8 @@ import org.assertj.core.data.MapEntry;
 import org.assertj.core.data.Offset;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.FileDigests;
+import org.assertj.core.internal.ParallelChecks;
 import org.assertj.core.util.Files;
 import org.assertj.core.util.FilesException;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -773,6 +775,39 @@ public class Assertions {
     FieldSupport.extraction().setAllowUsingPrivateFields(allowExtractingPrivateFields);
   }
 
+  /**
+   * Globally sets whether the digests of the expected files of {@code hasSameDigestAs} assertions
+   * (<code>{@link AbstractFileAssert#hasSameDigestAs(String, File)}</code> and
+   * <code>{@link AbstractPathAssert#hasSameDigestAs(String, Path)}</code>) are cached, an expected file compared to
+   * many actual files is then only read once as long as its size and last modification time do not change.
+   *
+   * @param cacheExpectedFileDigests cache expected file digests. Default {@code false}.
+   */
+  public static void setCacheExpectedFileDigests(boolean cacheExpectedFileDigests) {
+    FileDigests.setExpectedDigestsCacheEnabled(cacheExpectedFileDigests);
+  }
+
+  /**
+   * Globally sets the number of elements from which the elements of iterables and arrays are checked in parallel by
+   * the following assertions: {@code contains}, {@code containsAll}, {@code containsOnly},
+   * {@code doesNotHaveDuplicates}, {@code are}, {@code areNot}, {@code have}, {@code doNotHave} and their
+   * {@code atLeast}/{@code atMost}/{@code exactly} variants.
+   * <p>
+   * Elements are checked over a dedicated {@link java.util.concurrent.ForkJoinPool}, error messages are the same as
+   * when elements are checked one after the other. Conditions and comparators used by these assertions must then be
+   * thread safe.
+   * <p>
+   * Parallel checks are only worth it for iterables or arrays of (at least) hundreds of thousands elements, or for
+   * expensive conditions.
+   *
+   * @param parallelThreshold the minimum number of elements to check them in parallel. Default
+   *          {@code Integer.MAX_VALUE}, that is parallel checks are disabled.
+   * @throws IllegalArgumentException if the given threshold is not strictly positive.
+   */
+  public static void setParallelThreshold(int parallelThreshold) {
+    ParallelChecks.setParallelThreshold(parallelThreshold);
+  }
+
   /**
    * Globally sets whether the use of private fields is allowed for comparison.
    * The following (incomplete) list of methods will be impacted by this change :
@@ -1131,6 +1166,97 @@ public class Assertions {
     return Files.linesOf(file, charsetName);
   }
 
+  /**
+   * Loads the text content of a file, so that it can be passed to {@link #assertThat(String)}.
+   * <p>
+   * Note that this will load the entire file in memory; for larger files, there might be a more efficient alternative
+   * with {@link #assertThat(Path)}.
+   * </p>
+   *
+   * @param path the path of the file.
+   * @param charset the character set to use.
+   * @return the content of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static String contentOf(Path path, Charset charset) {
+    return Files.contentOf(path, charset);
+  }
+
+  /**
+   * Loads the text content of a file, so that it can be passed to {@link #assertThat(String)}.
+   * <p>
+   * Note that this will load the entire file in memory; for larger files, there might be a more efficient alternative
+   * with {@link #assertThat(Path)}.
+   * </p>
+   *
+   * @param path the path of the file.
+   * @param charsetName the name of the character set to use.
+   * @return the content of the file.
+   * @throws IllegalArgumentException if the given character set is not supported on this platform.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static String contentOf(Path path, String charsetName) {
+    return Files.contentOf(path, charsetName);
+  }
+
+  /**
+   * Loads the text content of a file with the default character set, so that it can be passed to
+   * {@link #assertThat(String)}.
+   * <p>
+   * Note that this will load the entire file in memory; for larger files, there might be a more efficient alternative
+   * with {@link #assertThat(Path)}.
+   * </p>
+   *
+   * @param path the path of the file.
+   * @return the content of the file.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static String contentOf(Path path) {
+    return Files.contentOf(path, Charset.defaultCharset());
+  }
+
+  /**
+   * Loads the text content of a file into a list of strings with the default charset, each string corresponding to a
+   * line.
+   * The line endings are either \n, \r or \r\n.
+   *
+   * @param path the path of the file.
+   * @return the content of the file.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static List<String> linesOf(Path path) {
+    return Files.linesOf(path, Charset.defaultCharset());
+  }
+
+  /**
+   * Loads the text content of a file into a list of strings, each string corresponding to a line.
+   * The line endings are either \n, \r or \r\n.
+   *
+   * @param path the path of the file.
+   * @param charset the character set to use.
+   * @return the content of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static List<String> linesOf(Path path, Charset charset) {
+    return Files.linesOf(path, charset);
+  }
+
+  /**
+   * Loads the text content of a file into a list of strings, each string corresponding to a line. The line endings are
+   * either \n, \r or \r\n.
+   *
+   * @param path the path of the file.
+   * @param charsetName the name of the character set to use.
+   * @return the content of the file.
+   * @throws IllegalArgumentException if the given character set is not supported on this platform.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static List<String> linesOf(Path path, String charsetName) {
+    return Files.linesOf(path, charsetName);
+  }
+
   // --------------------------------------------------------------------------------------------------
   // Date formatting methods : not assertions but here to have a single entry point to all AssertJ features.
   // --------------------------------------------------------------------------------------------------
@@ -15,14 +15,25 @@ package org.assertj.core.api;
 import net.sf.cglib.proxy.Callback;
 import net.sf.cglib.proxy.CallbackFilter;
 import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.MethodInterceptor;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
-
-import static org.assertj.core.util.Arrays.array;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 class SoftProxies {
 
+  // proxy classes are generated once per assert class, the callbacks being registered per proxy instance
+  private static final ClassValue<ProxyClass> PROXY_CLASSES = new ClassValue<ProxyClass>() {
+    @Override
+    protected ProxyClass computeValue(Class<?> assertClass) {
+      return new ProxyClass(assertClass);
+    }
+  };
+
   private final ErrorCollector collector = new ErrorCollector();
 
   List<Throwable> errorsCollected() {
@@ -31,11 +42,54 @@ class SoftProxies {
 
   @SuppressWarnings("unchecked")
   <V, T> V create(Class<V> assertClass, Class<T> actualClass, T actual) {
-    Enhancer enhancer = new Enhancer();
-    enhancer.setSuperclass(assertClass);
-    enhancer.setCallbackFilter(CollectErrorsOrCreateExtractedProxy.FILTER);
-    enhancer.setCallbacks(new Callback[] { collector, new ProxifyExtractingResult(this) });
-    return (V) enhancer.create(array(actualClass), array(actual));
+    return (V) PROXY_CLASSES.get(assertClass).newInstance(actualClass, actual,
+                                                        new Callback[] { collector, new ProxifyExtractingResult(this) });
+  }
+
+  private static class ProxyClass {
+
+    private final Class<?> proxyClass;
+    private final ConcurrentMap<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+    ProxyClass(Class<?> assertClass) {
+      Enhancer enhancer = new Enhancer();
+      enhancer.setSuperclass(assertClass);
+      enhancer.setCallbackFilter(CollectErrorsOrCreateExtractedProxy.FILTER);
+      enhancer.setCallbackTypes(new Class<?>[] { MethodInterceptor.class, MethodInterceptor.class });
+      proxyClass = enhancer.createClass();
+    }
+
+    Object newInstance(Class<?> actualClass, Object actual, Callback[] callbacks) {
+      Constructor<?> constructor = constructor(actualClass);
+      // the proxy constructor binds the callbacks registered for the current thread
+      Enhancer.registerCallbacks(proxyClass, callbacks);
+      try {
+        return constructor.newInstance(actual);
+      } catch (InvocationTargetException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        throw new IllegalStateException(cause);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      } finally {
+        Enhancer.registerCallbacks(proxyClass, null);
+      }
+    }
+
+    // as with Enhancer.create, the constructor has to match the actual class exactly
+    private Constructor<?> constructor(Class<?> actualClass) {
+      Constructor<?> constructor = constructors.get(actualClass);
+      if (constructor != null) return constructor;
+      try {
+        constructor = proxyClass.getDeclaredConstructor(actualClass);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException(e);
+      }
+      constructor.setAccessible(true);
+      constructors.putIfAbsent(actualClass, constructor);
+      return constructor;
+    }
   }
 
   private enum CollectErrorsOrCreateExtractedProxy implements CallbackFilter {
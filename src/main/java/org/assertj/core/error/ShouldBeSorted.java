@@ -53,6 +53,28 @@ public class ShouldBeSorted extends BasicErrorMessageFactory {
         comparator, i, arrayWrapper.get(i), i + 1, arrayWrapper.get(i + 1), arrayWrapper);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code> for a group that should be strictly sorted.
+   * 
+   * @param i the index of elements whose not naturally ordered with the next or equal to it.
+   * @param group the actual group in the failed assertion (either an iterable or an array).
+   * @return an instance of {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeStrictlySorted(int i, Object group) {
+    List<?> groupAsList = groupAsList(group);
+    return new ShouldBeSorted(
+        "%ngroup is not strictly sorted because element %s:%n <%s>%nis not less than element %s:%n <%s>%ngroup was:%n <%s>",
+        i, groupAsList.get(i), i + 1, groupAsList.get(i + 1), groupAsList);
+  }
+
+  public static ErrorMessageFactory shouldBeStrictlySortedAccordingToGivenComparator(int i, Object group,
+      Comparator<?> comparator) {
+    List<?> groupAsList = groupAsList(group);
+    return new ShouldBeSorted(
+        "%ngroup is not strictly sorted according to %s comparator because element %s:%n <%s>%nis not less than element %s:%n <%s>%ngroup was:%n <%s>",
+        comparator, i, groupAsList.get(i), i + 1, groupAsList.get(i + 1), groupAsList);
+  }
+
   public static ErrorMessageFactory shouldHaveMutuallyComparableElements(Object actual) {
     return new ShouldBeSorted("%nsome elements are not mutually comparable in group:%n<%s>", actual);
   }
@@ -64,7 +86,7 @@ public class ShouldBeSorted extends BasicErrorMessageFactory {
   }
 
   /**
-   * Convert the given group (which is either an array or a Collection) to a List.
+   * Convert the given group (which is either an array or an Iterable) to a List.
    * 
    * @param group the group to convert
    * @return the corresponding List
@@ -78,8 +100,14 @@ public class ShouldBeSorted extends BasicErrorMessageFactory {
       List<Object> asList = new ArrayList<>();
       asList.addAll(((Collection<Object>) group));
       return asList;
+    } else if (group instanceof Iterable<?>) {
+      List<Object> asList = new ArrayList<>();
+      for (Object element : (Iterable<?>) group) {
+        asList.add(element);
+      }
+      return asList;
     }
-    throw new IllegalArgumentException("Parameter should be an array or a collection but was " + group);
+    throw new IllegalArgumentException("Parameter should be an array or an iterable but was " + group);
   }
 
 }
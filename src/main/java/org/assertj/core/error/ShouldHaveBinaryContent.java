@@ -12,7 +12,10 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.util.Arrays.array;
+
 import java.io.File;
+import java.nio.file.Path;
 
 import org.assertj.core.internal.BinaryDiffResult;
 
@@ -24,6 +27,9 @@ import org.assertj.core.internal.BinaryDiffResult;
  */
 public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
 
+  private static final String MESSAGE = "%nFile:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>";
+  private static final String WINDOW_MESSAGE = "%nbytes from offset <%s>, expecting:%n <%s>%nbut was:%n <%s>";
+
   /**
    * Creates a new <code>{@link ShouldHaveBinaryContent}</code>.
    * @param actual the actual file in the failed assertion.
@@ -34,8 +40,25 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
     return new ShouldHaveBinaryContent(actual, diff);
   }
 
-  private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
-    super("%nFile:%n <%s>%ndoes not have expected binary content at offset <%s>, expecting:%n <%s>%nbut was:%n <%s>", actual,
-        diff.offset, diff.expected, diff.actual);
+  /**
+   * Creates a new <code>{@link ShouldHaveBinaryContent}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param diff the differences between {@code actual} and the given binary content.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
+    return new ShouldHaveBinaryContent(actual.toAbsolutePath(), diff);
+  }
+
+  private ShouldHaveBinaryContent(Object actual, BinaryDiffResult diff) {
+    super(diff.hasWindow() ? MESSAGE + WINDOW_MESSAGE : MESSAGE,
+          diff.hasWindow() ? array(actual, offset(diff.offset), diff.expected, diff.actual, offset(diff.windowOffset),
+                                   unquotedString(diff.expectedWindow), unquotedString(diff.actualWindow))
+              : array(actual, offset(diff.offset), diff.expected, diff.actual));
+  }
+
+  // displays offsets without the long suffix
+  private static CharSequence offset(long offset) {
+    return unquotedString(String.valueOf(offset));
   }
 }
@@ -14,6 +14,7 @@ package org.assertj.core.error;
 
 import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 
 
@@ -35,7 +36,18 @@ public class ShouldHaveContent extends AbstractShouldHaveTextContent {
     return new ShouldHaveContent(actual, charset, diffsAsString(diffs));
   }
 
-  private ShouldHaveContent(File actual, Charset charset, String diffs) {
+  /**
+   * Creates a new <code>{@link ShouldHaveContent}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param charset the charset that was used to read the file.
+   * @param diffs the differences between {@code actual} and the expected text that was provided in the assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveContent(Path actual, Charset charset, List<String> diffs) {
+    return new ShouldHaveContent(actual.toAbsolutePath(), charset, diffsAsString(diffs));
+  }
+
+  private ShouldHaveContent(Object actual, Charset charset, String diffs) {
     super("%nFile:%n  <%s>%nread with charset <%s> does not have the expected content:", actual, charset);
     this.diffs = diffs;
   }
@@ -0,0 +1,87 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.DigestDiff;
+
+/**
+ * Creates an error message indicating that an assertion that verifies the digest of a content failed.
+ */
+public class ShouldHaveDigest extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual InputStream in the failed assertion.
+   * @param diff the expected and actual digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(InputStream actual, DigestDiff diff) {
+    return new ShouldHaveDigest("InputStream", actual, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param diff the expected and actual digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(File actual, DigestDiff diff) {
+    return new ShouldHaveDigest("File", actual, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param diff the expected and actual digests.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveDigest(Path actual, DigestDiff diff) {
+    return new ShouldHaveDigest("Path", actual, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual file in the failed assertion.
+   * @param expected the file whose digest {@code actual} should have.
+   * @param diff the digests of {@code expected} and {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameDigest(File actual, File expected, DigestDiff diff) {
+    return new ShouldHaveDigest("File", actual, expected, diff);
+  }
+
+  /**
+   * Creates a new <code>{@link ShouldHaveDigest}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param expected the path whose digest {@code actual} should have.
+   * @param diff the digests of {@code expected} and {@code actual}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameDigest(Path actual, Path expected, DigestDiff diff) {
+    return new ShouldHaveDigest("Path", actual, expected, diff);
+  }
+
+  private ShouldHaveDigest(String actualType, Object actual, Object expected, DigestDiff diff) {
+    super("%nExpecting " + actualType + ":%n <%s>%nto have the same %s digest as:%n <%s>%nexpected digest:%n <%s>%nbut was:%n <%s>",
+          actual, unquotedString(diff.algorithm), expected, unquotedString(diff.expected), unquotedString(diff.actual));
+  }
+
+  private ShouldHaveDigest(String actualType, Object actual, DigestDiff diff) {
+    super("%nExpecting " + actualType + ":%n <%s>%n%s digest to be:%n <%s>%nbut was:%n <%s>", actual,
+          unquotedString(diff.algorithm), unquotedString(diff.expected), unquotedString(diff.actual));
+  }
+}
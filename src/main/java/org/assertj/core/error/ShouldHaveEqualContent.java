@@ -15,6 +15,7 @@ package org.assertj.core.error;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 /**
@@ -37,6 +38,17 @@ public class ShouldHaveEqualContent extends AbstractShouldHaveTextContent {
     return new ShouldHaveEqualContent(actual, expected, diffsAsString(diffs));
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveEqualContent}</code>.
+   * @param actual the actual path in the failed assertion.
+   * @param expected the expected path in the failed assertion.
+   * @param diffs the differences between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveEqualContent(Path actual, Path expected, List<String> diffs) {
+    return new ShouldHaveEqualContent(actual.toAbsolutePath(), expected.toAbsolutePath(), diffsAsString(diffs));
+  }
+
   /**
    * Creates a new <code>{@link ShouldHaveEqualContent}</code>.
    * @param actual the actual InputStream in the failed assertion.
@@ -48,7 +60,7 @@ public class ShouldHaveEqualContent extends AbstractShouldHaveTextContent {
     return new ShouldHaveEqualContent(actual, expected, diffsAsString(diffs));
   }
 
-  private ShouldHaveEqualContent(File actual, File expected, String diffs) {
+  private ShouldHaveEqualContent(Object actual, Object expected, String diffs) {
     super("%nFile:%n  <%s>%nand file:%n  <%s>%ndo not have equal content:", actual, expected);
     this.diffs = diffs;
   }
@@ -0,0 +1,54 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.util.Arrays.array;
+
+import java.io.InputStream;
+
+import org.assertj.core.internal.BinaryDiffResult;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that two {@code InputStream}s have the same
+ * binary content failed.
+ */
+public class ShouldHaveSameContent extends BasicErrorMessageFactory {
+
+  private static final String MESSAGE = "%nInputStream:%n <%s>%ndoes not have same content as:%n <%s>%nat offset <%s>, expecting:%n <%s>%nbut was:%n <%s>";
+  private static final String WINDOW_MESSAGE = "%nbytes from offset <%s>, expecting:%n <%s>%nbut was:%n <%s>";
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameContent}</code>.
+   * @param actual the actual InputStream in the failed assertion.
+   * @param expected the InputStream {@code actual} was compared to.
+   * @param diff the first difference between {@code actual} and {@code expected}.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameContent(InputStream actual, InputStream expected,
+                                                          BinaryDiffResult diff) {
+    return new ShouldHaveSameContent(actual, expected, diff);
+  }
+
+  private ShouldHaveSameContent(InputStream actual, InputStream expected, BinaryDiffResult diff) {
+    super(diff.hasWindow() ? MESSAGE + WINDOW_MESSAGE : MESSAGE,
+          diff.hasWindow() ? array(actual, expected, offset(diff.offset), diff.expected, diff.actual,
+                                   offset(diff.windowOffset), unquotedString(diff.expectedWindow),
+                                   unquotedString(diff.actualWindow))
+              : array(actual, expected, offset(diff.offset), diff.expected, diff.actual));
+  }
+
+  // displays offsets without the long suffix
+  private static CharSequence offset(long offset) {
+    return unquotedString(String.valueOf(offset));
+  }
+}
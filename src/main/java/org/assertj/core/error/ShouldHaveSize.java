@@ -32,7 +32,18 @@ public class ShouldHaveSize extends BasicErrorMessageFactory {
     return new ShouldHaveSize(actual, actualSize, expectedSize);
   }
 
-  private ShouldHaveSize(Object actual, int actualSize, int expectedSize) {
+  /**
+   * Creates a new </code>{@link ShouldHaveSize}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param actualSize the size of {@code actual}.
+   * @param expectedSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSize(Object actual, long actualSize, long expectedSize) {
+    return new ShouldHaveSize(actual, actualSize, expectedSize);
+  }
+
+  private ShouldHaveSize(Object actual, long actualSize, long expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
     super(format("%nExpected size:<%s> but was:<%s> in:%n<%s>", expectedSize, actualSize, "%s"), actual);
@@ -12,6 +12,8 @@
  */
 package org.assertj.core.error;
 
+import java.util.Set;
+
 import org.assertj.core.internal.*;
 
 /**
@@ -45,7 +47,27 @@ public class ShouldNotContainCharSequence extends BasicErrorMessageFactory {
     return new ShouldNotContainCharSequence(actual, sequence, comparisonStrategy);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldNotContainCharSequence}</code>.
+   * @param actual the actual value in the failed assertion.
+   * @param values the values expected not to be in {@code actual}.
+   * @param found the values in {@code values} found in {@code actual}.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldNotContain(CharSequence actual, CharSequence[] values,
+                                                     Set<? extends CharSequence> found,
+                                                     ComparisonStrategy comparisonStrategy) {
+    return new ShouldNotContainCharSequence(actual, values, found, comparisonStrategy);
+  }
+
   private ShouldNotContainCharSequence(CharSequence actual, CharSequence sequence, ComparisonStrategy comparisonStrategy) {
     super("%nExpecting:%n <%s>%nnot to contain:%n <%s> %s", actual, sequence, comparisonStrategy);
   }
+
+  private ShouldNotContainCharSequence(CharSequence actual, CharSequence[] values, Set<? extends CharSequence> found,
+                                       ComparisonStrategy comparisonStrategy) {
+    super("%nExpecting:%n <%s>%nnot to contain:%n <%s>%nbut found:%n <%s>%n %s", actual, values, found,
+          comparisonStrategy);
+  }
 }
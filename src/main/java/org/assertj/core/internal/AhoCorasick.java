@@ -0,0 +1,214 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Looks for several {@code CharSequence}s in a text in a single pass with the Aho-Corasick algorithm ("Efficient
+ * String Matching: An Aid to Bibliographic Search").
+ * <p>
+ * The searched values are stored in a trie whose nodes are linked to the node of their longest proper suffix also in
+ * the trie (failure links), the text is then read once, following the trie edges and the failure links when no edge
+ * matches the current char.
+ * <p>
+ * Automatons are immutable and cached per set of searched values, asserting the same values against several texts
+ * only builds the automaton once.
+ */
+class AhoCorasick {
+
+  private static final int CACHE_MAX_SIZE = 64;
+  private static final ConcurrentMap<List<String>, AhoCorasick> AUTOMATONS = new ConcurrentHashMap<>();
+
+  private static final int ROOT = 0;
+  private static final int[] NO_VALUES = new int[0];
+
+  private final int valueCount;
+  private final int[] valueLengths;
+  // edges of each node sorted by label
+  private final char[][] labels;
+  private final int[][] targets;
+  private final int[] failures;
+  // indexes of the values ending at each node
+  private final int[][] matchedValues;
+  // closest node reachable by failure links matching a value, -1 if none
+  private final int[] outputLinks;
+
+  private AhoCorasick(List<String> values) {
+    valueCount = values.size();
+    valueLengths = new int[valueCount];
+    Trie trie = new Trie();
+    for (int i = 0; i < valueCount; i++) {
+      String value = values.get(i);
+      valueLengths[i] = value.length();
+      trie.add(value, i);
+    }
+    int nodeCount = trie.nodes.size();
+    labels = new char[nodeCount][];
+    targets = new int[nodeCount][];
+    matchedValues = new int[nodeCount][];
+    for (int node = 0; node < nodeCount; node++) {
+      TrieNode trieNode = trie.nodes.get(node);
+      labels[node] = trieNode.sortedLabels();
+      targets[node] = new int[labels[node].length];
+      for (int i = 0; i < labels[node].length; i++) {
+        targets[node][i] = trieNode.children.get(labels[node][i]);
+      }
+      matchedValues[node] = trieNode.toValueIndexes();
+    }
+    failures = new int[nodeCount];
+    outputLinks = new int[nodeCount];
+    linkNodes();
+  }
+
+  /**
+   * Returns the automaton searching the given values, building it if it is not cached yet.
+   *
+   * @param values the values to search, none of them should be {@code null}.
+   * @return the automaton searching the given values.
+   */
+  static AhoCorasick of(CharSequence... values) {
+    String[] strings = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      strings[i] = values[i].toString();
+    }
+    List<String> key = asList(strings);
+    AhoCorasick automaton = AUTOMATONS.get(key);
+    if (automaton != null) return automaton;
+    automaton = new AhoCorasick(key);
+    if (AUTOMATONS.size() >= CACHE_MAX_SIZE) AUTOMATONS.clear();
+    AUTOMATONS.put(key, automaton);
+    return automaton;
+  }
+
+  /**
+   * Returns the index of the first occurrence of each searched value in the given text, reading the text once and
+   * stopping as soon as all values have been found.
+   *
+   * @param text the text to search the values in.
+   * @return the index of the first occurrence of each value in the given text (-1 if not found), in the order the
+   *         values were given.
+   */
+  int[] firstOccurrencesIn(CharSequence text) {
+    int[] firstOccurrences = new int[valueCount];
+    java.util.Arrays.fill(firstOccurrences, -1);
+    int notFoundCount = valueCount;
+    // empty values are found at the beginning of the text
+    for (int value : matchedValues[ROOT]) {
+      firstOccurrences[value] = 0;
+      notFoundCount--;
+    }
+    int node = ROOT;
+    for (int i = 0, length = text.length(); i < length && notFoundCount > 0; i++) {
+      node = next(node, text.charAt(i));
+      for (int output = matchedValues[node].length > 0 ? node : outputLinks[node]; output > ROOT; output = outputLinks[output]) {
+        for (int value : matchedValues[output]) {
+          if (firstOccurrences[value] < 0) {
+            firstOccurrences[value] = i + 1 - valueLengths[value];
+            notFoundCount--;
+          }
+        }
+      }
+    }
+    return firstOccurrences;
+  }
+
+  private int next(int node, char c) {
+    while (true) {
+      int edge = java.util.Arrays.binarySearch(labels[node], c);
+      if (edge >= 0) return targets[node][edge];
+      if (node == ROOT) return ROOT;
+      node = failures[node];
+    }
+  }
+
+  /**
+   * Computes failure and output links breadth first, the links of a node depend on the links of shallower nodes.
+   */
+  private void linkNodes() {
+    Queue<Integer> queue = new LinkedList<>();
+    failures[ROOT] = ROOT;
+    outputLinks[ROOT] = -1;
+    for (int child : targets[ROOT]) {
+      failures[child] = ROOT;
+      outputLinks[child] = -1;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.remove();
+      for (int i = 0; i < labels[node].length; i++) {
+        int child = targets[node][i];
+        int failure = next(failures[node], labels[node][i]);
+        failures[child] = failure;
+        outputLinks[child] = matchedValues[failure].length > 0 && failure != ROOT ? failure : outputLinks[failure];
+        queue.add(child);
+      }
+    }
+  }
+
+  private static class Trie {
+    private final List<TrieNode> nodes = new ArrayList<>();
+
+    Trie() {
+      nodes.add(new TrieNode());
+    }
+
+    void add(String value, int valueIndex) {
+      int node = ROOT;
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        Integer child = nodes.get(node).children.get(c);
+        if (child == null) {
+          child = nodes.size();
+          nodes.add(new TrieNode());
+          nodes.get(node).children.put(c, child);
+        }
+        node = child;
+      }
+      nodes.get(node).valueIndexes.add(valueIndex);
+    }
+  }
+
+  private static class TrieNode {
+    private final Map<Character, Integer> children = new HashMap<>();
+    private final List<Integer> valueIndexes = new ArrayList<>(1);
+
+    char[] sortedLabels() {
+      char[] sortedLabels = new char[children.size()];
+      int i = 0;
+      for (char label : children.keySet()) {
+        sortedLabels[i++] = label;
+      }
+      java.util.Arrays.sort(sortedLabels);
+      return sortedLabels;
+    }
+
+    int[] toValueIndexes() {
+      if (valueIndexes.isEmpty()) return NO_VALUES;
+      int[] indexes = new int[valueIndexes.size()];
+      for (int i = 0; i < indexes.length; i++) {
+        indexes[i] = valueIndexes.get(i);
+      }
+      return indexes;
+    }
+  }
+}
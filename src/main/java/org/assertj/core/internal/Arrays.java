@@ -72,6 +72,7 @@ import java.util.Set;
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
 import org.assertj.core.data.Index;
+import org.assertj.core.internal.ParallelChecks.ElementCheck;
 import org.assertj.core.util.ArrayWrapperList;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -143,11 +144,14 @@ public class Arrays {
 
   void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
 	if (commonChecks(info, actual, values)) return;
-	Set<Object> notFound = new LinkedHashSet<>();
+	if (canCompareWithoutBoxing(actual, values) && PrimitiveArrays.containsAll(actual, values)) return;
 	int valueCount = sizeOf(values);
+	ElementMultiset actualElements = ElementMultiset.forContains(wrap(actual), comparisonStrategy, valueCount);
+	if (ParallelChecks.isWorthFor(valueCount) && allContainedIn(asObjectArray(values), actualElements)) return;
+	Set<Object> notFound = new LinkedHashSet<>();
 	for (int i = 0; i < valueCount; i++) {
 	  Object value = Array.get(values, i);
-	  if (!arrayContains(actual, value)) notFound.add(value);
+	  if (!actualElements.contains(value)) notFound.add(value);
 	}
 	if (!notFound.isEmpty())
 	  throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -157,9 +161,11 @@ public class Arrays {
 	if (iterable == null) throw iterableToLookForIsNull();
 	assertNotNull(info, array);
 	Object[] values = newArrayList(iterable).toArray();
+	ElementMultiset arrayElements = ElementMultiset.forContains(wrap(array), comparisonStrategy, values.length);
+	if (ParallelChecks.isWorthFor(values.length) && allContainedIn(values, arrayElements)) return;
 	Set<Object> notFound = new LinkedHashSet<>();
 	for (Object value : values) {
-	  if (!arrayContains(array, value)) notFound.add(value);
+	  if (!arrayElements.contains(value)) notFound.add(value);
 	}
 	if (!notFound.isEmpty())
 	  throw failures.failure(info, shouldContain(array, values, notFound, comparisonStrategy));
@@ -190,6 +196,10 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
 	if (commonChecks(info, actual, values)) return;
+	if (canCompareWithoutBoxing(actual, values) && PrimitiveArrays.containsOnly(actual, values)) return;
+	if (ParallelChecks.isWorthFor(Math.max(sizeOf(actual), sizeOf(values)))
+	    && allContainedIn(asObjectArray(actual), ElementMultiset.of(wrap(values), comparisonStrategy))
+	    && allContainedIn(asObjectArray(values), ElementMultiset.of(wrap(actual), comparisonStrategy))) return;
 	Set<Object> notExpected = asSetWithoutDuplicatesAccordingToComparisonStrategy(actual);
 	Set<Object> notFound = containsOnly(notExpected, values);
 	if (notExpected.isEmpty() && notFound.isEmpty()) return;
@@ -198,7 +208,10 @@ public class Arrays {
 
   void assertContainsExactly(AssertionInfo info, Failures failures, Object actual, Object values) {
 	if (commonChecks(info, actual, values)) return;
+	if (canCompareWithoutBoxing(actual, values) && PrimitiveArrays.containsExactly(actual, values)) return;
 	assertHasSameSizeAs(info, actual, values);
+	if (elementsAreEqualInOrder(actual, values)) return;
+	// analyse the differences to report them
 	Set<Object> actualWithoutDuplicates = asSetWithoutDuplicatesAccordingToComparisonStrategy(actual);
 	Set<Object> notFound = containsOnly(actualWithoutDuplicates, values);
 	if (actualWithoutDuplicates.isEmpty() && notFound.isEmpty()) {
@@ -217,6 +230,17 @@ public class Arrays {
 	                       shouldContainExactly(actual, values, notFound, actualWithoutDuplicates, comparisonStrategy));
   }
 
+  /**
+   * Compares the elements of actual and values pairwise, in order, both arrays must have the same size.
+   */
+  private boolean elementsAreEqualInOrder(Object actual, Object values) {
+	int arrayLength = sizeOf(actual);
+	for (int i = 0; i < arrayLength; i++) {
+	  if (!areEqual(Array.get(actual, i), Array.get(values, i))) return false;
+	}
+	return true;
+  }
+
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
 	if (commonChecks(info, actual, values))
 	  return;
@@ -279,35 +303,15 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
 	if (commonChecks(info, actual, sequence)) return;
-	// look for given sequence, stop check when there is not enough elements remaining in actual to contain sequence
-	int lastIndexWhereSequeceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-	for (int actualIndex = 0; actualIndex <= lastIndexWhereSequeceCanBeFound; actualIndex++) {
-	  if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-	}
+	if (canCompareWithoutBoxing(actual, sequence) && PrimitiveArrays.containsSequence(actual, sequence)) return;
+	// look for given sequence in a single pass over actual
+	if (KnuthMorrisPratt.containsSequence(wrap(actual), asObjectArray(sequence), comparisonStrategy)) return;
 	throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * 
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-	int sequenceSize = sizeOf(sequence);
-	for (int i = 0; i < sequenceSize; i++) {
-	  if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-		continue;
-	  return false;
-	}
-	return true;
-  }
-
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
 	if (commonChecks(info, actual, subsequence)) return;
+	if (canCompareWithoutBoxing(actual, subsequence) && PrimitiveArrays.containsSubsequence(actual, subsequence)) return;
 
 	int sizeOfActual = sizeOf(actual);
 	int sizeOfSubsequence = sizeOf(subsequence);
@@ -328,6 +332,14 @@ public class Arrays {
 	  throw failures.failure(info, shouldContainSubsequence(actual, subsequence, comparisonStrategy));
   }
 
+  /**
+   * Returns true if the given arrays are arrays of the same primitive type compared with the standard comparison
+   * strategy, checks can then be done by {@link PrimitiveArrays} without boxing elements.
+   */
+  private boolean canCompareWithoutBoxing(Object actual, Object values) {
+	return comparisonStrategy.isStandard() && PrimitiveArrays.arePrimitiveArraysOfSameType(actual, values);
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#areEqual(Object, Object)}
    */
@@ -338,15 +350,34 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
 	checkIsNotNullAndNotEmpty(values);
 	assertNotNull(info, array);
-	Set<Object> found = new LinkedHashSet<>();
+	if (canCompareWithoutBoxing(array, values) && PrimitiveArrays.containsNone(array, values)) return;
 	int valuesSize = sizeOf(values);
+	ElementMultiset arrayElements = ElementMultiset.forContains(wrap(array), comparisonStrategy, valuesSize);
+	Set<Object> found = new LinkedHashSet<>();
 	for (int i = 0; i < valuesSize; i++) {
 	  Object value = Array.get(values, i);
-	  if (arrayContains(array, value)) found.add(value);
+	  if (arrayElements.contains(value)) found.add(value);
 	}
 	if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
 
+  /**
+   * Checks in parallel that all the given values are in the given indexed array elements.
+   */
+  private static boolean allContainedIn(Object[] values, final ElementMultiset arrayElements) {
+	return ParallelChecks.allMatch(values, new ElementCheck() {
+	  @Override
+	  public boolean check(Object value) {
+		return arrayElements.contains(value);
+	  }
+	});
+  }
+
+  private static Object[] asObjectArray(Object array) {
+	// elements are only read, no need to copy arrays of objects
+	return array instanceof Object[] ? (Object[]) array : wrap(array).toArray();
+  }
+
   /**
    * Delegates to {@link ComparisonStrategy#arrayContains(Object, Object)}
    */
@@ -356,6 +387,11 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
 	assertNotNull(info, array);
+	if (comparisonStrategy.isStandard() && PrimitiveArrays.isPrimitiveArray(array)
+	    && PrimitiveArrays.hasNoDuplicates(array)) return;
+	// elements are checked in parallel to pass quickly, duplicates are looked for again to report them
+	if (comparisonStrategy.isStandard() && ParallelChecks.isWorthFor(sizeOf(array))
+	    && ParallelChecks.haveNoDuplicates(asObjectArray(array))) return;
 	ArrayWrapperList wrapped = wrap(array);
 	Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
 	if (!isNullOrEmpty(duplicates))
@@ -365,6 +401,7 @@ public class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
 	if (commonChecks(info, actual, sequence))
 	  return;
+	if (canCompareWithoutBoxing(actual, sequence) && PrimitiveArrays.startsWith(actual, sequence)) return;
 	int sequenceSize = sizeOf(sequence);
 	int arraySize = sizeOf(actual);
 	if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -390,6 +427,7 @@ public class Arrays {
 
   void assertEndsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
 	if (commonChecks(info, actual, sequence)) return;
+	if (canCompareWithoutBoxing(actual, sequence) && PrimitiveArrays.endsWith(actual, sequence)) return;
 	int sequenceSize = sizeOf(sequence);
 	int arraySize = sizeOf(actual);
 	if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
@@ -404,11 +442,13 @@ public class Arrays {
   public void assertIsSubsetOf(AssertionInfo info, Failures failures, Object actual, Iterable<?> values) {
 	assertNotNull(info, actual);
 	checkIterableIsNotNull(info, values);
+	// values are indexed once instead of being scanned for each actual element
+	ElementMultiset valuesElements = ElementMultiset.of(values, comparisonStrategy);
 	List<Object> extra = newArrayList();
 	int sizeOfActual = sizeOf(actual);
 	for (int i = 0; i < sizeOfActual; i++) {
 	  Object actualElement = Array.get(actual, i);
-	  if (!iterableContains(values, actualElement)) {
+	  if (!valuesElements.contains(actualElement)) {
 		extra.add(actualElement);
 	  }
 	}
@@ -457,44 +497,48 @@ public class Arrays {
 
   public <E> void assertAreAtLeast(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                               int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() < times)
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition, times);
+	if (matchingElements < times)
 	  throw failures.failure(info, elementsShouldBeAtLeast(array, times, condition));
   }
 
   public <E> void assertAreAtMost(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                              int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() > times) throw failures.failure(info, elementsShouldBeAtMost(array, times, condition));
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition,
+	                                                      moreThan(times));
+	if (matchingElements > times) throw failures.failure(info, elementsShouldBeAtMost(array, times, condition));
   }
 
   public <E> void assertAreExactly(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                               int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() != times)
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition,
+	                                                      moreThan(times));
+	if (matchingElements != times)
 	  throw failures.failure(info, elementsShouldBeExactly(array, times, condition));
   }
 
   public <E> void assertHaveAtLeast(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                                int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() < times)
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition, times);
+	if (matchingElements < times)
 	  throw failures.failure(info, elementsShouldHaveAtLeast(array, times, condition));
 
   }
 
   public <E> void assertHaveAtMost(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                               int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() > times)
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition,
+	                                                      moreThan(times));
+	if (matchingElements > times)
 	  throw failures.failure(info, elementsShouldHaveAtMost(array, times, condition));
 
   }
 
   public <E> void assertHaveExactly(AssertionInfo info, Failures failures, Conditions conditions, Object array,
 	                                int times, Condition<E> condition) {
-	List<E> matchingElements = getElementsMatchingCondition(info, failures, conditions, array, condition);
-	if (matchingElements.size() != times)
+	int matchingElements = countElementsMatchingCondition(info, failures, conditions, array, condition,
+	                                                      moreThan(times));
+	if (matchingElements != times)
 	  throw failures.failure(info, elementsShouldHaveExactly(array, times, condition));
   }
 
@@ -503,6 +547,39 @@ public class Arrays {
 	return filterElements(info, failures, conditions, array, condition, false);
   }
 
+  /**
+   * Returns the number of elements matching the given condition, elements are counted without being collected and are
+   * not evaluated anymore once {@code maxCount} of them match the condition.
+   */
+  @SuppressWarnings("unchecked")
+  private <E> int countElementsMatchingCondition(AssertionInfo info, Failures failures, Conditions conditions,
+	                                             Object array, final Condition<E> condition, int maxCount) {
+	assertNotNull(info, array);
+	conditions.assertIsNotNull(condition);
+	try {
+	  int arraySize = sizeOf(array);
+	  if (ParallelChecks.isWorthFor(arraySize)) {
+		return ParallelChecks.countMatches(asObjectArray(array), new ElementCheck() {
+		  @Override
+		  public boolean check(Object element) {
+			return condition.matches((E) element);
+		  }
+		}, maxCount);
+	  }
+	  int count = 0;
+	  for (int i = 0; i < arraySize; i++) {
+		if (condition.matches((E) Array.get(array, i)) && ++count >= maxCount) break;
+	  }
+	  return count;
+	} catch (ClassCastException e) {
+	  throw failures.failure(info, shouldBeSameGenericBetweenIterableAndCondition(array, condition));
+	}
+  }
+
+  private static int moreThan(int n) {
+	return n == Integer.MAX_VALUE ? n : n + 1;
+  }
+
   private <E> List<E> getElementsNotMatchingCondition(AssertionInfo info, Failures failures, Conditions conditions,
 	                                                  Object array, Condition<E> condition) {
 	return filterElements(info, failures, conditions, array, condition, true);
@@ -514,8 +591,9 @@ public class Arrays {
 	assertNotNull(info, array);
 	conditions.assertIsNotNull(condition);
 	try {
-	  List<E> filteredElements = new LinkedList<>();
 	  int arraySize = sizeOf(array);
+	  if (ParallelChecks.isWorthFor(arraySize)) return filterElementsInParallel(array, condition, negateCondition);
+	  List<E> filteredElements = new LinkedList<>();
 	  for (int i = 0; i < arraySize; i++) {
 		E element = (E) Array.get(array, i);
 		if (negateCondition ? !condition.matches(element) : condition.matches(element)) filteredElements.add(element);
@@ -526,6 +604,24 @@ public class Arrays {
 	}
   }
 
+  @SuppressWarnings("unchecked")
+  private static <E> List<E> filterElementsInParallel(Object array, final Condition<E> condition,
+	                                                  boolean negateCondition) {
+	Object[] elements = asObjectArray(array);
+	boolean[] matches = ParallelChecks.checkAll(elements, new ElementCheck() {
+	  @Override
+	  public boolean check(Object element) {
+		return condition.matches((E) element);
+	  }
+	});
+	// gathered in array order to report the same elements as a sequential check
+	List<E> filteredElements = new LinkedList<>();
+	for (int i = 0; i < elements.length; i++) {
+	  if (matches[i] != negateCondition) filteredElements.add((E) elements[i]);
+	}
+	return filteredElements;
+  }
+
   void assertIsSorted(AssertionInfo info, Failures failures, Object array) {
 	assertNotNull(info, array);
 	if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
@@ -536,6 +632,7 @@ public class Arrays {
 	}
 	// empty arrays are considered sorted even if component type is not sortable.
 	if (sizeOf(array) == 0) return;
+	if (PrimitiveArrays.isPrimitiveArray(array) && PrimitiveArrays.isSorted(array)) return;
 	assertThatArrayComponentTypeIsSortable(info, failures, array);
 	try {
 	  // sorted assertion is only relevant if array elements are Comparable
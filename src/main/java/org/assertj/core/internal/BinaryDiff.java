@@ -12,31 +12,47 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
+import static org.assertj.core.util.Hexadecimals.byteToHexString;
+
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.assertj.core.util.VisibleForTesting;
 
 
 /**
  * Compares the binary content of two streams.
+ * <p>
+ * Streams are read and compared by blocks of {@value #BUFFER_SIZE} bytes, when a difference is found the bytes around
+ * it (up to {@value #WINDOW_RADIUS} bytes before and after) are reported in the {@link BinaryDiffResult}.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  @VisibleForTesting
+  static final int BUFFER_SIZE = 64 * 1024;
+  @VisibleForTesting
+  static final int WINDOW_RADIUS = 8;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
-    InputStream expectedStream = new ByteArrayInputStream(expected);
+    return diff(actual.toPath(), expected);
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
     InputStream actualStream = null;
     boolean threw = true;
     try {
-      actualStream = new FileInputStream(actual);
-      BinaryDiffResult result = diff(actualStream, expectedStream);
+      // reads blocks from a channel of the path file system, archive entries or in-memory files included
+      actualStream = Channels.newInputStream(Files.newByteChannel(actual));
+      BinaryDiffResult result = diff(actualStream, expected);
       threw = false;
       return result;
     } finally {
@@ -49,15 +65,134 @@ public class BinaryDiff {
     }
   }
 
+  private BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
+    BlockReader actualBlocks = new BlockReader(actualStream);
+    int blockOffset = 0;
+    while (true) {
+      int actualLength = actualBlocks.next();
+      int expectedLength = Math.min(BUFFER_SIZE, expected.length - blockOffset);
+      int index = mismatch(actualBlocks.buffer, actualBlocks.blockStart, actualLength, expected, blockOffset,
+                           expectedLength);
+      if (index >= 0) return diffAt(blockOffset, index, actualBlocks.buffer, actualBlocks.blockStart,
+                                    actualBlocks.end, expected, blockOffset, expected.length);
+      // no difference in this block, actualLength == expectedLength
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff(); // reached end of both contents
+      blockOffset += actualLength;
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    BlockReader actualBlocks = new BlockReader(actualStream);
+    BlockReader expectedBlocks = new BlockReader(expectedStream);
+    long blockOffset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = actualBlocks.next();
+      int expectedLength = expectedBlocks.next();
+      int index = mismatch(actualBlocks.buffer, actualBlocks.blockStart, actualLength, expectedBlocks.buffer,
+                           expectedBlocks.blockStart, expectedLength);
+      if (index >= 0) return diffAt(blockOffset, index, actualBlocks.buffer, actualBlocks.blockStart,
+                                    actualBlocks.end, expectedBlocks.buffer, expectedBlocks.blockStart,
+                                    expectedBlocks.end);
+      // no difference in this block, actualLength == expectedLength
+      if (actualLength < BUFFER_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      blockOffset += actualLength;
+    }
+  }
+
+  /**
+   * Reads a stream by blocks of {@value #BUFFER_SIZE} bytes, keeping the last {@value #WINDOW_RADIUS} bytes of the
+   * previous block before the current one and reading up to {@value #WINDOW_RADIUS} bytes ahead of it so that the
+   * bytes around a difference can be reported even when it is close to a block edge.
+   */
+  private static class BlockReader {
+
+    private final InputStream stream;
+    // previous block tail | current block | read ahead bytes
+    final byte[] buffer = new byte[WINDOW_RADIUS + BUFFER_SIZE + WINDOW_RADIUS];
+    final int blockStart = WINDOW_RADIUS;
+    private int blockEnd = WINDOW_RADIUS;
+    int end = WINDOW_RADIUS;
+
+    BlockReader(InputStream stream) {
+      this.stream = stream;
+    }
+
+    /**
+     * Reads the next block, starting with the bytes read ahead of the current one.
+     * 
+     * @return the block length, less than {@value #BUFFER_SIZE} only if the end of the stream has been reached.
+     */
+    int next() throws IOException {
+      int keptFrom = Math.max(0, blockEnd - WINDOW_RADIUS);
+      int keptLength = end - keptFrom;
+      int newStart = blockStart - (blockEnd - keptFrom);
+      System.arraycopy(buffer, keptFrom, buffer, newStart, keptLength);
+      end = newStart + keptLength;
+      end += fill(stream, buffer, end);
+      blockEnd = Math.min(end, blockStart + BUFFER_SIZE);
+      return blockEnd - blockStart;
+    }
+  }
+
+  /**
+   * Reads the given stream until the buffer is full or the end of the stream is reached.
+   * 
+   * @return the number of bytes read, less than the remaining buffer length only if the end of the stream has been
+   *         reached.
+   */
+  private static int fill(InputStream stream, byte[] buffer, int from) throws IOException {
+    int length = 0;
+    while (from + length < buffer.length) {
+      int read = stream.read(buffer, from + length, buffer.length - from - length);
+      if (read == -1) break;
+      length += read;
+    }
+    return length;
+  }
+
+  /**
+   * Returns the index of the first difference between the two given blocks or -1 if they have the same content, a
+   * block ending before the other one differs at its length.
+   */
+  @VisibleForTesting
+  static int mismatch(byte[] actual, int actualFrom, int actualLength, byte[] expected, int expectedFrom,
+                      int expectedLength) {
+    int length = Math.min(actualLength, expectedLength);
+    for (int i = 0; i < length; i++) {
+      if (actual[actualFrom + i] != expected[expectedFrom + i]) return i;
+    }
+    return actualLength == expectedLength ? -1 : length;
+  }
+
+  /**
+   * Builds the result for a difference at the given index of the blocks starting at {@code actualFrom} and
+   * {@code expectedFrom}, {@code actualEnd} and {@code expectedEnd} being the end of the bytes available after them and
+   * at least {@value #WINDOW_RADIUS} bytes (or the whole content if shorter) being available before them.
+   */
+  private static BinaryDiffResult diffAt(long blockOffset, int index, byte[] actual, int actualFrom, int actualEnd,
+                                         byte[] expected, int expectedFrom, int expectedEnd) {
+    // the window may start in the previous block
+    int windowStart = (int) Math.max(index - WINDOW_RADIUS, -blockOffset);
+    int windowEnd = index + WINDOW_RADIUS + 1;
+    int actualLength = actualEnd - actualFrom;
+    int expectedLength = expectedEnd - expectedFrom;
+    return new BinaryDiffResult(blockOffset + index, byteAt(expected, expectedFrom, expectedLength, index),
+                                byteAt(actual, actualFrom, actualLength, index), blockOffset + windowStart,
+                                hexWindow(expected, expectedFrom, windowStart, Math.min(windowEnd, expectedLength)),
+                                hexWindow(actual, actualFrom, windowStart, Math.min(windowEnd, actualLength)));
+  }
+
+  private static int byteAt(byte[] block, int from, int length, int index) {
+    return index < length ? block[from + index] & 0xFF : BinaryDiffResult.EOF;
+  }
+
+  private static String hexWindow(byte[] block, int from, int windowStart, int windowEnd) {
+    StringBuilder window = new StringBuilder();
+    for (int i = windowStart; i < windowEnd; i++) {
+      if (window.length() > 0) window.append(' ');
+      window.append(byteToHexString(block[from + i]));
     }
+    return window.toString();
   }
 }
@@ -18,12 +18,18 @@ package org.assertj.core.internal;
  * @author Olivier Michallat
  */
 public class BinaryDiffResult {
-  private static final int EOF = -1;
+  static final int EOF = -1;
 
-  public final int offset;
+  public final long offset;
   public final String expected;
   public final String actual;
-  
+  /** the offset of the first byte of {@link #expectedWindow} and {@link #actualWindow}, -1 if there is no window. */
+  public final long windowOffset;
+  /** hexadecimal expected bytes around the difference, null if there is no window. */
+  public final String expectedWindow;
+  /** hexadecimal actual bytes around the difference, null if there is no window. */
+  public final String actualWindow;
+
   /**
    * Builds a new instance.
    * 
@@ -31,16 +37,38 @@ public class BinaryDiffResult {
    * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
    * @param actual the actual byte in the same format.
    */
-  public BinaryDiffResult(int offset, int expected, int actual) {
+  public BinaryDiffResult(long offset, int expected, int actual) {
+    this(offset, expected, actual, EOF, null, null);
+  }
+
+  /**
+   * Builds a new instance reporting the bytes around the difference.
+   * 
+   * @param offset the offset at which the difference occurred.
+   * @param expected the expected byte as an int in the range 0 to 255, or -1 for EOF.
+   * @param actual the actual byte in the same format.
+   * @param windowOffset the offset of the first byte of the given windows.
+   * @param expectedWindow the expected bytes around the difference in hexadecimal.
+   * @param actualWindow the actual bytes around the difference in hexadecimal.
+   */
+  public BinaryDiffResult(long offset, int expected, int actual, long windowOffset, String expectedWindow,
+                          String actualWindow) {
     this.offset = offset;
     this.expected = describe(expected);
     this.actual = describe(actual);
+    this.windowOffset = windowOffset;
+    this.expectedWindow = expectedWindow;
+    this.actualWindow = actualWindow;
   }
-  
+
   public boolean hasNoDiff() {
     return offset == EOF;
   }
-  
+
+  public boolean hasWindow() {
+    return expectedWindow != null && actualWindow != null;
+  }
+
   public static BinaryDiffResult noDiff() {
     return new BinaryDiffResult(EOF, 0, 0);
   }
@@ -13,21 +13,28 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
-import static org.assertj.core.util.Objects.areEqual;
+import static org.assertj.core.util.SystemProperties.LINE_SEPARATOR;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.internal.MyersDiff.Hunk;
 import org.assertj.core.util.VisibleForTesting;
 
 
@@ -44,6 +51,11 @@ import org.assertj.core.util.VisibleForTesting;
 @VisibleForTesting
 public class Diff {
   private static final String EOF = "EOF";
+  private static final int BLOCK_SIZE = 1024 * 1024;
+  @VisibleForTesting
+  static final int MAX_REPORTED_DIFFS = 50;
+  private static final int MAX_HUNK_LINES = 20;
+  private static final int CONTEXT_SIZE = 3;
 
   @VisibleForTesting
   public List<String> diff(InputStream actual, InputStream expected) throws IOException {
@@ -61,11 +73,18 @@ public class Diff {
 
   @VisibleForTesting
   public List<String> diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
+  @VisibleForTesting
+  public List<String> diff(Path actual, Path expected) throws IOException {
+    // files with the same bytes have the same lines, no need to decode them
+    if (haveSameBytes(actual, expected)) return emptyList();
     BufferedReader reader1 = null;
     BufferedReader reader2 = null;
     try {
-      reader1 = readerFor(actual);
-      reader2 = readerFor(expected);
+      reader1 = readerFor(actual, Charset.defaultCharset());
+      reader2 = readerFor(expected, Charset.defaultCharset());
       return unmodifiableList(diff(reader1, reader2));
     } finally {
       closeQuietly(reader1);
@@ -75,6 +94,11 @@ public class Diff {
 
   @VisibleForTesting
   public List<String> diff(File actual, String expected, Charset charset) throws IOException {
+    return diff(actual.toPath(), expected, charset);
+  }
+
+  @VisibleForTesting
+  public List<String> diff(Path actual, String expected, Charset charset) throws IOException {
     BufferedReader reader1 = null;
     try {
       reader1 = readerFor(actual, charset);
@@ -85,6 +109,56 @@ public class Diff {
     }
   }
 
+  /**
+   * Returns true if both files have the same size and the same bytes, they are read by blocks through
+   * {@link SeekableByteChannel}s so that nothing is decoded, files of any {@link java.nio.file.FileSystem} can be
+   * compared.
+   */
+  private boolean haveSameBytes(Path actual, Path expected) throws IOException {
+    SeekableByteChannel actualChannel = null;
+    SeekableByteChannel expectedChannel = null;
+    try {
+      actualChannel = Files.newByteChannel(actual);
+      expectedChannel = Files.newByteChannel(expected);
+      long size = actualChannel.size();
+      if (size != expectedChannel.size()) return false;
+      if (size == 0) return true;
+      // small files don't need a whole block, heap buffers are reclaimed as soon as the comparison is done
+      return haveSameBytes(actualChannel, expectedChannel, (int) Math.min(BLOCK_SIZE, size));
+    } finally {
+      closeQuietly(actualChannel);
+      closeQuietly(expectedChannel);
+    }
+  }
+
+  private boolean haveSameBytes(ReadableByteChannel actual, ReadableByteChannel expected, int bufferSize)
+      throws IOException {
+    ByteBuffer actualBuffer = ByteBuffer.allocate(bufferSize);
+    ByteBuffer expectedBuffer = ByteBuffer.allocate(bufferSize);
+    while (true) {
+      boolean actualEnded = fill(actual, actualBuffer);
+      boolean expectedEnded = fill(expected, expectedBuffer);
+      if (!actualBuffer.equals(expectedBuffer)) return false;
+      if (actualEnded || expectedEnded) return actualEnded && expectedEnded;
+    }
+  }
+
+  /**
+   * Reads the given channel until the buffer is full or the end of the channel is reached, the buffer is flipped to be
+   * compared.
+   *
+   * @return true if the end of the channel has been reached.
+   */
+  private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.clear();
+    boolean ended = false;
+    while (buffer.hasRemaining() && !ended) {
+      ended = channel.read(buffer) == -1;
+    }
+    buffer.flip();
+    return ended;
+  }
+
   private BufferedReader readerFor(InputStream stream) {
     return new BufferedReader(new InputStreamReader(stream));
   }
@@ -93,33 +167,87 @@ public class Diff {
     return new BufferedReader(new InputStreamReader(stream, charset));
   }
 
-  private BufferedReader readerFor(File file) throws IOException {
-    return readerFor(new FileInputStream(file));
-  }
-
-  private BufferedReader readerFor(File file, Charset charset) throws IOException {
-    return readerFor(new FileInputStream(file), charset);
+  private BufferedReader readerFor(Path path, Charset charset) throws IOException {
+    return readerFor(Channels.newInputStream(Files.newByteChannel(path)), charset);
   }
 
   private BufferedReader readerFor(String string) {
     return new BufferedReader(new StringReader(string));
   }
 
+  /**
+   * Diffs the lines read from both readers with {@link MyersDiff}, so that an inserted or deleted line is reported once
+   * instead of shifting all following lines. Differences are reported as follow:
+   * <ul>
+   * <li>lines changed one for one: one difference per line, like <code>line:&lt;2&gt;, expected:&lt;a&gt; but was:&lt;b&gt;</code></li>
+   * <li>lines missing or in excess at the end of the contents: one difference comparing the first one to <code>EOF</code></li>
+   * <li>other insertions, deletions or changes: one difference showing the expected (-) and actual (+) lines with some
+   * surrounding lines as context</li>
+   * </ul>
+   * At most {@value #MAX_REPORTED_DIFFS} differences are reported, followed by the number of unreported ones.
+   */
   private List<String> diff(BufferedReader actual, BufferedReader expected) throws IOException {
+    List<String> actualLines = linesOf(actual);
+    List<String> expectedLines = linesOf(expected);
+    List<Hunk> hunks = MyersDiff.diff(expectedLines, actualLines);
     List<String> diffs = new ArrayList<>();
-    int lineNumber = 1;
-    while (true) {
-      String actualLine = actual.readLine();
-      String expectedLine = expected.readLine();
-      if (actualLine == null || expectedLine == null) {
-        if (expectedLine != null) diffs.add(output(lineNumber, EOF, expectedLine));
-        if (actualLine != null) diffs.add(output(lineNumber, actualLine, EOF));
-        return diffs;
-      } else if (!areEqual(actualLine, expectedLine)) {
-        diffs.add(output(lineNumber, actualLine, expectedLine));
-      }
-      lineNumber += 1;
+    int unreportedDiffs = 0;
+    for (int i = 0; i < hunks.size(); i++) {
+      Hunk hunk = hunks.get(i);
+      if (hunk.expectedLength() == hunk.actualLength() || isAtEndOfBothContents(hunk, actualLines, expectedLines)) {
+        // same output as comparing lines one by one
+        int pairedLines = Math.min(hunk.expectedLength(), hunk.actualLength());
+        for (int line = 0; line < pairedLines; line++) {
+          if (diffs.size() < MAX_REPORTED_DIFFS) {
+            int actualIndex = hunk.actualStart + line;
+            diffs.add(output(actualIndex + 1, actualLines.get(actualIndex), expectedLines.get(hunk.expectedStart + line)));
+          } else unreportedDiffs++;
+        }
+        if (hunk.expectedLength() == hunk.actualLength()) continue;
+        if (diffs.size() >= MAX_REPORTED_DIFFS) unreportedDiffs++;
+        else if (hunk.expectedLength() > pairedLines)
+          diffs.add(output(hunk.actualEnd + 1, EOF, expectedLines.get(hunk.expectedStart + pairedLines)));
+        else diffs.add(output(hunk.actualStart + pairedLines + 1, actualLines.get(hunk.actualStart + pairedLines), EOF));
+      } else if (diffs.size() < MAX_REPORTED_DIFFS) {
+        int contextStart = i == 0 ? 0 : hunks.get(i - 1).actualEnd;
+        int contextEnd = i == hunks.size() - 1 ? actualLines.size() : hunks.get(i + 1).actualStart;
+        diffs.add(output(hunk, actualLines, expectedLines, contextStart, contextEnd));
+      } else unreportedDiffs++;
+    }
+    if (unreportedDiffs > 0) diffs.add(format("... and <%d> more differences", unreportedDiffs));
+    return diffs;
+  }
+
+  private static List<String> linesOf(BufferedReader reader) throws IOException {
+    List<String> lines = new ArrayList<>();
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lines.add(line);
+    }
+    return lines;
+  }
+
+  private static boolean isAtEndOfBothContents(Hunk hunk, List<String> actualLines, List<String> expectedLines) {
+    return hunk.actualEnd == actualLines.size() && hunk.expectedEnd == expectedLines.size();
+  }
+
+  private String output(Hunk hunk, List<String> actualLines, List<String> expectedLines, int contextStart,
+                        int contextEnd) {
+    StringBuilder output = new StringBuilder(format("line:<%d>, expected (-) and actual (+) lines differ:",
+                                                    hunk.actualStart + 1));
+    appendLines(output, "  ", actualLines, Math.max(contextStart, hunk.actualStart - CONTEXT_SIZE), hunk.actualStart);
+    appendLines(output, "- ", expectedLines, hunk.expectedStart, hunk.expectedEnd);
+    appendLines(output, "+ ", actualLines, hunk.actualStart, hunk.actualEnd);
+    appendLines(output, "  ", actualLines, hunk.actualEnd, Math.min(contextEnd, hunk.actualEnd + CONTEXT_SIZE));
+    return output.toString();
+  }
+
+  private static void appendLines(StringBuilder output, String prefix, List<String> lines, int start, int end) {
+    int shownEnd = Math.min(end, start + MAX_HUNK_LINES);
+    for (int i = start; i < shownEnd; i++) {
+      output.append(LINE_SEPARATOR).append(prefix).append(lines.get(i));
     }
+    if (shownEnd < end) output.append(LINE_SEPARATOR).append(prefix).append(format("... <%d> more lines", end - shownEnd));
   }
 
   private String output(int lineNumber, String actual, String expected) {
@@ -0,0 +1,40 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Value class holding the expected and actual digests of a {@code hasDigest} assertion, in hexadecimal.
+ */
+public class DigestDiff {
+
+  public final String algorithm;
+  public final String expected;
+  public final String actual;
+
+  /**
+   * Builds a new instance.
+   *
+   * @param algorithm the digest algorithm.
+   * @param expected the expected digest.
+   * @param actual the actual digest.
+   */
+  public DigestDiff(String algorithm, byte[] expected, byte[] actual) {
+    this.algorithm = algorithm;
+    this.expected = Digests.toHex(expected);
+    this.actual = Digests.toHex(actual);
+  }
+
+  public boolean digestsDiffer() {
+    return !expected.equals(actual);
+  }
+}
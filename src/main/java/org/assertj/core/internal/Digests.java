@@ -0,0 +1,108 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Computes and formats the digests used by the {@code hasDigest} assertions.
+ * <p>
+ * Contents are digested by chunks of {@value #BUFFER_SIZE} bytes, they are never loaded in memory as a whole.
+ */
+final class Digests {
+
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private Digests() {}
+
+  /**
+   * Returns a new {@link MessageDigest} implementing the given algorithm.
+   *
+   * @param algorithm the digest algorithm name, e.g. "MD5" or "SHA-256".
+   * @return a new {@link MessageDigest}.
+   * @throws NullPointerException if the given algorithm is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   */
+  static MessageDigest messageDigest(String algorithm) {
+    if (algorithm == null) throw new NullPointerException("The digest algorithm should not be null");
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalArgumentException(format("Unable to find digest implementation for: <%s>", algorithm), e);
+    }
+  }
+
+  /**
+   * Reads the given stream until its end and returns the digest of its content, the stream is not closed.
+   *
+   * @param stream the stream to digest.
+   * @param digest the {@link MessageDigest} to use.
+   * @return the digest of the stream content.
+   * @throws IOException if the stream can't be read.
+   */
+  static byte[] digestOf(InputStream stream, MessageDigest digest) throws IOException {
+    byte[] buffer = new byte[BUFFER_SIZE];
+    for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+      digest.update(buffer, 0, read);
+    }
+    return digest.digest();
+  }
+
+  /**
+   * Returns the upper case hexadecimal representation of the given bytes.
+   *
+   * @param bytes the bytes to format.
+   * @return the hexadecimal representation of the given bytes.
+   */
+  static String toHex(byte[] bytes) {
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int b = bytes[i] & 0xFF;
+      hex[2 * i] = HEX_DIGITS[b >>> 4];
+      hex[2 * i + 1] = HEX_DIGITS[b & 0x0F];
+    }
+    return new String(hex);
+  }
+
+  /**
+   * Returns the bytes represented by the given hexadecimal string, case is ignored.
+   *
+   * @param hex the hexadecimal string to parse.
+   * @return the bytes represented by the given string.
+   * @throws NullPointerException if the given string is {@code null}.
+   * @throws IllegalArgumentException if the given string is not a valid hexadecimal representation of bytes.
+   */
+  static byte[] fromHex(String hex) {
+    if (hex == null) throw new NullPointerException("The expected digest should not be null");
+    if (hex.length() % 2 != 0) throw invalidHex(hex);
+    byte[] bytes = new byte[hex.length() / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int high = Character.digit(hex.charAt(2 * i), 16);
+      int low = Character.digit(hex.charAt(2 * i + 1), 16);
+      if (high < 0 || low < 0) throw invalidHex(hex);
+      bytes[i] = (byte) (high << 4 | low);
+    }
+    return bytes;
+  }
+
+  private static IllegalArgumentException invalidHex(String hex) {
+    return new IllegalArgumentException(format("The expected digest <%s> is not a valid hexadecimal string", hex));
+  }
+}
@@ -0,0 +1,286 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Arrays.isArray;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.util.Objects;
+
+/**
+ * Counts the elements of an {@link Iterable} so that membership and number of occurrences can be queried without
+ * scanning the whole {@link Iterable} for each looked up value.
+ * <p>
+ * The way elements are indexed depends on the {@link ComparisonStrategy} :
+ * <ul>
+ * <li>standard strategy : elements are hashed with {@code hashCode}/{@code equals} (arrays by content), lookups are
+ * O(1)</li>
+ * <li>{@link ComparatorBasedComparisonStrategy} : elements are sorted with the comparator, lookups are O(log n). A value
+ * not found by binary search is looked up again linearly, the comparator might not define a total order.</li>
+ * <li>any other strategy : elements are scanned linearly as {@link ComparisonStrategy#iterableContains(Iterable, Object)}
+ * does.</li>
+ * </ul>
+ */
+abstract class ElementMultiset {
+
+  // up to this number of lookups, scanning the elements is cheaper than indexing them
+  private static final int MAX_LINEAR_LOOKUPS = 8;
+
+  /**
+   * Counts the elements of the given {@link Iterable} according to the given {@link ComparisonStrategy}.
+   *
+   * @param elements the elements to count.
+   * @param comparisonStrategy the {@link ComparisonStrategy} defining element equality.
+   * @return a new {@link ElementMultiset}.
+   */
+  static ElementMultiset of(Iterable<?> elements, ComparisonStrategy comparisonStrategy) {
+    if (comparisonStrategy.isStandard()) return new HashedElementMultiset(elements);
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      SortedElementMultiset sorted = SortedElementMultiset.sort(elements, comparator, comparisonStrategy);
+      if (sorted != null) return sorted;
+    }
+    return new LinearElementMultiset(elements, comparisonStrategy);
+  }
+
+  /**
+   * Indexes the elements of the given {@link Iterable} according to the given {@link ComparisonStrategy} to only look up
+   * whether they contain values, {@link #count(Object)} is not meant to be called on the result.
+   * <p>
+   * A few lookups are cheaper as plain scans stopping at the first match than indexing all elements, the elements are
+   * only indexed above {@value #MAX_LINEAR_LOOKUPS} lookups and, with the standard strategy, in a set rather than with
+   * counters.
+   *
+   * @param elements the elements to look values up in.
+   * @param comparisonStrategy the {@link ComparisonStrategy} defining element equality.
+   * @param lookupCount the number of lookups that are going to be made.
+   * @return a new {@link ElementMultiset}.
+   */
+  static ElementMultiset forContains(Iterable<?> elements, ComparisonStrategy comparisonStrategy, int lookupCount) {
+    if (lookupCount <= MAX_LINEAR_LOOKUPS) return new LinearElementMultiset(elements, comparisonStrategy);
+    if (comparisonStrategy.isStandard()) return new HashedElementSet(elements);
+    return of(elements, comparisonStrategy);
+  }
+
+  /**
+   * Returns the number of elements equal to the given value.
+   *
+   * @param value the value to count.
+   * @return the number of elements equal to the given value.
+   */
+  abstract int count(Object value);
+
+  /**
+   * Returns true if at least one element is equal to the given value.
+   *
+   * @param value the value to look for.
+   * @return true if at least one element is equal to the given value.
+   */
+  boolean contains(Object value) {
+    return count(value) > 0;
+  }
+
+  /**
+   * Returns the key to use in hash based collections for the given element, arrays are wrapped to be hashed and
+   * compared by content as {@link Objects#areEqual(Object, Object)} does.
+   *
+   * @param element the element to get the hash key of.
+   * @return the hash key of the given element.
+   */
+  static Object hashKeyOf(Object element) {
+    return isArray(element) ? new ArrayKey(element) : element;
+  }
+
+  private static class HashedElementMultiset extends ElementMultiset {
+
+    private final Map<Object, int[]> counts = new HashMap<>();
+
+    HashedElementMultiset(Iterable<?> elements) {
+      for (Object element : elements) {
+        Object key = hashKeyOf(element);
+        int[] count = counts.get(key);
+        if (count == null) counts.put(key, new int[] { 1 });
+        else count[0]++;
+      }
+    }
+
+    @Override
+    int count(Object value) {
+      int[] count = counts.get(hashKeyOf(value));
+      return count == null ? 0 : count[0];
+    }
+  }
+
+  private static class HashedElementSet extends ElementMultiset {
+
+    private final Set<Object> keys = new HashSet<>();
+
+    HashedElementSet(Iterable<?> elements) {
+      for (Object element : elements) {
+        keys.add(hashKeyOf(element));
+      }
+    }
+
+    @Override
+    int count(Object value) {
+      throw new UnsupportedOperationException("only membership of elements is indexed");
+    }
+
+    @Override
+    boolean contains(Object value) {
+      return keys.contains(hashKeyOf(value));
+    }
+  }
+
+  private static class SortedElementMultiset extends ElementMultiset {
+
+    @SuppressWarnings("rawtypes")
+    private final Comparator comparator;
+    private final ComparisonStrategy comparisonStrategy;
+    private final Object[] sortedElements;
+    private final int nullCount;
+
+    private SortedElementMultiset(Object[] sortedElements, int nullCount, Comparator<?> comparator,
+                                  ComparisonStrategy comparisonStrategy) {
+      this.sortedElements = sortedElements;
+      this.nullCount = nullCount;
+      this.comparator = comparator;
+      this.comparisonStrategy = comparisonStrategy;
+    }
+
+    /**
+     * Returns the sorted elements or null if they can't be sorted with the given comparator (ex: elements of different
+     * types or comparator breaking its general contract).
+     */
+    @SuppressWarnings("unchecked")
+    static SortedElementMultiset sort(Iterable<?> elements, @SuppressWarnings("rawtypes") Comparator comparator,
+                                      ComparisonStrategy comparisonStrategy) {
+      List<Object> notNullElements = new ArrayList<>();
+      int nullCount = 0;
+      for (Object element : elements) {
+        // comparator based strategies consider null equal to null only
+        if (element == null) nullCount++;
+        else notNullElements.add(element);
+      }
+      Object[] sortedElements = notNullElements.toArray();
+      try {
+        java.util.Arrays.sort(sortedElements, comparator);
+      } catch (RuntimeException e) {
+        return null;
+      }
+      return new SortedElementMultiset(sortedElements, nullCount, comparator, comparisonStrategy);
+    }
+
+    @Override
+    int count(Object value) {
+      if (value == null) return nullCount;
+      int index = indexOf(value);
+      if (index < 0) return linearCount(value);
+      int first = index, last = index;
+      while (first > 0 && areEqual(sortedElements[first - 1], value)) first--;
+      while (last < sortedElements.length - 1 && areEqual(sortedElements[last + 1], value)) last++;
+      return last - first + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int indexOf(Object value) {
+      try {
+        return java.util.Arrays.binarySearch(sortedElements, value, comparator);
+      } catch (RuntimeException e) {
+        return -1;
+      }
+    }
+
+    private boolean areEqual(Object element, Object value) {
+      return comparisonStrategy.areEqual(element, value);
+    }
+
+    private int linearCount(Object value) {
+      int count = 0;
+      for (Object element : sortedElements) {
+        if (areEqual(element, value)) count++;
+      }
+      return count;
+    }
+  }
+
+  private static class LinearElementMultiset extends ElementMultiset {
+
+    private final Iterable<?> elements;
+    private final ComparisonStrategy comparisonStrategy;
+
+    LinearElementMultiset(Iterable<?> elements, ComparisonStrategy comparisonStrategy) {
+      this.elements = elements;
+      this.comparisonStrategy = comparisonStrategy;
+    }
+
+    @Override
+    int count(Object value) {
+      int count = 0;
+      for (Object element : elements) {
+        if (comparisonStrategy.areEqual(element, value)) count++;
+      }
+      return count;
+    }
+
+    @Override
+    boolean contains(Object value) {
+      return comparisonStrategy.iterableContains(elements, value);
+    }
+  }
+
+  /**
+   * Wraps an array to hash and compare it by content like {@link Objects#areEqual(Object, Object)} does, primitive
+   * arrays included.
+   */
+  private static final class ArrayKey {
+
+    private final Object array;
+    private final int hashCode;
+
+    ArrayKey(Object array) {
+      this.array = array;
+      this.hashCode = contentHashCode(array);
+    }
+
+    private static int contentHashCode(Object element) {
+      if (!isArray(element)) return element == null ? 0 : element.hashCode();
+      int result = 1;
+      int length = Array.getLength(element);
+      for (int i = 0; i < length; i++) {
+        result = Objects.HASH_CODE_PRIME * result + contentHashCode(Array.get(element, i));
+      }
+      return result;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof ArrayKey)) return false;
+      return Objects.areEqual(array, ((ArrayKey) obj).array);
+    }
+  }
+}
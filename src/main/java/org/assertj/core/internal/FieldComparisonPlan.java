@@ -0,0 +1,123 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.assertj.core.util.introspection.FieldSupport;
+
+/**
+ * The fields of a class used to compare its instances field by field, computed once per class and cached.
+ * <p>
+ * A plan holds the declared fields of a class and of its superclasses (stopping at superclasses in <code>java.lang</code>
+ * package), the field read for each field name (the first one declared in the class hierarchy) and whether fields
+ * have a public getter.
+ */
+final class FieldComparisonPlan {
+
+  private static final ClassValue<FieldComparisonPlan> PLANS = new ClassValue<FieldComparisonPlan>() {
+    @Override
+    protected FieldComparisonPlan computeValue(Class<?> type) {
+      return new FieldComparisonPlan(type);
+    }
+  };
+
+  private final List<Field> fields;
+  // the field read by name, hidden fields of superclasses are not read
+  private final Map<String, Field> fieldsByName = new HashMap<>();
+  // filled on demand as getters are looked up on instances of the class
+  private final ConcurrentMap<String, Boolean> publicGetterExists = new ConcurrentHashMap<>();
+
+  private FieldComparisonPlan(Class<?> type) {
+    fields = unmodifiableList(new ArrayList<>(getDeclaredFieldsIncludingInherited(type)));
+    for (Field field : fields) {
+      if (!fieldsByName.containsKey(field.getName())) fieldsByName.put(field.getName(), field);
+    }
+  }
+
+  /**
+   * Returns the comparison plan of the given class.
+   *
+   * @param type the class to get the comparison plan of.
+   * @return the comparison plan of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  static FieldComparisonPlan of(Class<?> type) {
+    if (type == null) throw new NullPointerException("expecting Class parameter not to be null");
+    return PLANS.get(type);
+  }
+
+  /**
+   * Returns the declared fields of the class and its superclasses, in declaration order starting with the class fields.
+   *
+   * @return the declared fields of the class and its superclasses.
+   */
+  List<Field> fields() {
+    return fields;
+  }
+
+  boolean hasField(String fieldName) {
+    return fieldsByName.containsKey(fieldName);
+  }
+
+  /**
+   * Returns true if the value of the given field can be read, either directly or with its public getter.
+   *
+   * @param field one of the plan fields.
+   * @param fieldSupport the {@link FieldSupport} used to read fields.
+   * @param target an instance of the plan class.
+   * @return true if the value of the given field can be read.
+   */
+  boolean canRead(Field field, FieldSupport fieldSupport, Object target) {
+    if (fieldSupport.isAllowedToRead(field)) return true;
+    Boolean getterExists = publicGetterExists.get(field.getName());
+    if (getterExists == null) {
+      getterExists = PropertySupport.instance().publicGetterExistsFor(field.getName(), target);
+      publicGetterExists.put(field.getName(), getterExists);
+    }
+    return getterExists;
+  }
+
+  /**
+   * Returns true if the field with the given name is known not to be readable by the given {@link FieldSupport}, its
+   * value has then to be read with its getter.
+   *
+   * @param fieldName a field name, nested fields are never skipped.
+   * @param fieldSupport the {@link FieldSupport} used to read fields.
+   * @return true if reading the field with the given name is bound to fail.
+   */
+  boolean isFieldNotReadable(String fieldName, FieldSupport fieldSupport) {
+    Field field = fieldsByName.get(fieldName);
+    return field != null && !fieldSupport.isAllowedToRead(field);
+  }
+
+  private static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
+    Set<Field> declaredFields = new LinkedHashSet<>();
+    for (Class<?> c = clazz; c != null && (c == clazz || !c.getName().startsWith("java.lang")); c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        declaredFields.add(field);
+      }
+    }
+    return declaredFields;
+  }
+}
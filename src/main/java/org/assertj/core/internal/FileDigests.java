@@ -0,0 +1,135 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Computes file digests by reading files through a {@link SeekableByteChannel}, chunk by chunk.
+ * <p>
+ * Digests of the expected files of {@code hasSameDigestAs} assertions can be cached (see
+ * {@link #setExpectedDigestsCacheEnabled(boolean)}) so that a golden file compared to many actual files is only
+ * digested once. Cached digests are keyed by file path, size and last modification time, a modified file is thus
+ * digested again.
+ */
+public final class FileDigests {
+
+  private static final int CACHE_MAX_SIZE = 1024;
+  private static final ConcurrentMap<DigestKey, byte[]> EXPECTED_DIGESTS = new ConcurrentHashMap<>();
+  private static volatile boolean expectedDigestsCacheEnabled = false;
+
+  private FileDigests() {}
+
+  /**
+   * Sets whether the digests of the expected files of {@code hasSameDigestAs} assertions are cached, the cache is
+   * emptied when disabled.
+   *
+   * @param enabled whether expected file digests are cached. Default {@code false}.
+   */
+  public static void setExpectedDigestsCacheEnabled(boolean enabled) {
+    expectedDigestsCacheEnabled = enabled;
+    if (!enabled) EXPECTED_DIGESTS.clear();
+  }
+
+  /**
+   * Returns the digest of the given file content.
+   *
+   * @param file the file to digest.
+   * @param digest the {@link MessageDigest} to use.
+   * @return the digest of the given file content.
+   * @throws IOException if the file can't be read.
+   */
+  static byte[] digestOf(Path file, MessageDigest digest) throws IOException {
+    SeekableByteChannel channel = Files.newByteChannel(file);
+    boolean threw = true;
+    try {
+      ByteBuffer buffer = ByteBuffer.allocate(Digests.BUFFER_SIZE);
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+      threw = false;
+      return digest.digest();
+    } finally {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // Only rethrow if it doesn't shadow an exception thrown from the inner try block
+        if (!threw) throw e;
+      }
+    }
+  }
+
+  /**
+   * Returns the digest of the given expected file content, from the cache if it is enabled and the file has not
+   * changed since its digest was cached.
+   *
+   * @param file the expected file to digest.
+   * @param digest the {@link MessageDigest} to use.
+   * @return the digest of the given file content.
+   * @throws IOException if the file can't be read.
+   */
+  static byte[] expectedDigestOf(Path file, MessageDigest digest) throws IOException {
+    if (!expectedDigestsCacheEnabled) return digestOf(file, digest);
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    DigestKey key = new DigestKey(file.toAbsolutePath().normalize().toString(), attributes.size(),
+                                  attributes.lastModifiedTime().toMillis(), digest.getAlgorithm());
+    byte[] fileDigest = EXPECTED_DIGESTS.get(key);
+    if (fileDigest == null) {
+      fileDigest = digestOf(file, digest);
+      if (EXPECTED_DIGESTS.size() >= CACHE_MAX_SIZE) EXPECTED_DIGESTS.clear();
+      EXPECTED_DIGESTS.put(key, fileDigest);
+    }
+    return fileDigest.clone();
+  }
+
+  private static final class DigestKey {
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    private final String algorithm;
+
+    DigestKey(String path, long size, long lastModified, String algorithm) {
+      this.path = path;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.algorithm = algorithm;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = path.hashCode();
+      result = 31 * result + (int) (size ^ (size >>> 32));
+      result = 31 * result + (int) (lastModified ^ (lastModified >>> 32));
+      return 31 * result + algorithm.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof DigestKey)) return false;
+      DigestKey other = (DigestKey) obj;
+      return size == other.size && lastModified == other.lastModified && path.equals(other.path)
+             && algorithm.equals(other.algorithm);
+    }
+  }
+}
@@ -19,6 +19,7 @@ import org.assertj.core.util.VisibleForTesting;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import java.util.List;
 
 import static org.assertj.core.error.ShouldBeAbsolutePath.shouldBeAbsolutePath;
@@ -30,6 +31,8 @@ import static org.assertj.core.error.ShouldBeWritable.shouldBeWritable;
 import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveSameDigest;
 import static org.assertj.core.error.ShouldHaveEqualContent.shouldHaveEqualContent;
 import static org.assertj.core.error.ShouldHaveExtension.shouldHaveExtension;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
@@ -145,6 +148,81 @@ public class Files {
     }
   }
 
+  /**
+   * Asserts that the given file content has the given digest, the file is read by chunks.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" file.
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the file content does not have the given digest.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, String algorithm, byte[] expected) {
+    MessageDigest digest = Digests.messageDigest(algorithm);
+    if (expected == null) throw new NullPointerException("The expected digest should not be null");
+    assertIsFile(info, actual);
+    try {
+      DigestDiff diff = new DigestDiff(algorithm, expected, FileDigests.digestOf(actual.toPath(), digest));
+      if (!diff.digestsDiffer()) return;
+      throw failures.failure(info, shouldHaveDigest(actual, diff));
+    } catch (IOException e) {
+      String msg = String.format("Unable to compute %s digest of file:<%s>", algorithm, actual);
+      throw new FilesException(msg, e);
+    }
+  }
+
+  /**
+   * Asserts that the given file content has the given digest, the file is read by chunks.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" file.
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest in hexadecimal, case is ignored.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if {@code expected} is not a valid hexadecimal string.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the file content does not have the given digest.
+   */
+  public void assertHasDigest(AssertionInfo info, File actual, String algorithm, String expected) {
+    assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
+  }
+
+  /**
+   * Asserts that the given files contents have the same digest, both files are read by chunks. The expected file
+   * digest may come from the {@link FileDigests} cache.
+   * @param info contains information about the assertion.
+   * @param actual the "actual" file.
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the "expected" file.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if {@code expected} is not an existing file.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if {@code actual} is not an existing file.
+   * @throws FilesException if an I/O error occurs.
+   * @throws AssertionError if the files contents do not have the same digest.
+   */
+  public void assertHasSameDigestAs(AssertionInfo info, File actual, String algorithm, File expected) {
+    MessageDigest digest = Digests.messageDigest(algorithm);
+    verifyIsFile(expected);
+    assertIsFile(info, actual);
+    try {
+      byte[] expectedDigest = FileDigests.expectedDigestOf(expected.toPath(), digest);
+      DigestDiff diff = new DigestDiff(algorithm, expectedDigest, FileDigests.digestOf(actual.toPath(), digest));
+      if (!diff.digestsDiffer()) return;
+      throw failures.failure(info, shouldHaveSameDigest(actual, expected, diff));
+    } catch (IOException e) {
+      String msg = String.format("Unable to compare %s digests of files:<%s> and:<%s>", algorithm, actual, expected);
+      throw new FilesException(msg, e);
+    }
+  }
+
   private void verifyIsFile(File expected) {
     if (expected == null) throw new NullPointerException("The file to compare to should not be null");
     if (expected.isFile()) return;
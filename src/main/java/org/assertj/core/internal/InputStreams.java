@@ -14,10 +14,14 @@ package org.assertj.core.internal;
 
 import static java.lang.String.format;
 
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
 import static org.assertj.core.error.ShouldHaveEqualContent.shouldHaveEqualContent;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.MessageDigest;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -44,6 +48,8 @@ public class InputStreams {
   @VisibleForTesting
   Diff diff = new Diff();
   @VisibleForTesting
+  BinaryDiff binaryDiff = new BinaryDiff();
+  @VisibleForTesting
   Failures failures = Failures.instance();
 
   @VisibleForTesting
@@ -73,6 +79,109 @@ public class InputStreams {
     }
   }
 
+  /**
+   * Asserts that the given InputStreams have the same binary content, both streams are read by chunks until their first
+   * difference.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the "actual" InputStream.
+   * @param expected the "expected" InputStream.
+   * @throws NullPointerException if {@code expected} is {@code null}.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given InputStreams do not have the same content.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertSameContentAs(AssertionInfo info, InputStream actual, InputStream expected) {
+    if (expected == null) throw new NullPointerException("The InputStream to compare to should not be null");
+    assertNotNull(info, actual);
+    try {
+      BinaryDiffResult result = binaryDiff.diff(actual, expected);
+      if (result.hasNoDiff()) return;
+      throw failures.failure(info, shouldHaveSameContent(actual, expected, result));
+    } catch (IOException e) {
+      String msg = format("Unable to compare contents of InputStreams:%n  <%s>%nand:%n  <%s>", actual, expected);
+      throw new InputStreamsException(msg, e);
+    }
+  }
+
+  /**
+   * Asserts that the given InputStream content has the given digest, the stream is read by chunks until its end.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the "actual" InputStream.
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of the given InputStream does not have the given digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, String algorithm, byte[] expected) {
+    MessageDigest digest = Digests.messageDigest(algorithm);
+    if (expected == null) throw new NullPointerException("The expected digest should not be null");
+    assertNotNull(info, actual);
+    try {
+      DigestDiff diff = new DigestDiff(algorithm, expected, Digests.digestOf(actual, digest));
+      if (!diff.digestsDiffer()) return;
+      throw failures.failure(info, shouldHaveDigest(actual, diff));
+    } catch (IOException e) {
+      String msg = format("Unable to compute %s digest of InputStream:%n  <%s>", algorithm, actual);
+      throw new InputStreamsException(msg, e);
+    }
+  }
+
+  /**
+   * Asserts that the given InputStream content has the given digest, the stream is read by chunks until its end.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the "actual" InputStream.
+   * @param algorithm the digest algorithm, e.g. "MD5" or "SHA-256".
+   * @param expected the expected digest in hexadecimal, case is ignored.
+   * @throws NullPointerException if {@code algorithm} or {@code expected} is {@code null}.
+   * @throws IllegalArgumentException if no provider supports the given algorithm.
+   * @throws IllegalArgumentException if {@code expected} is not a valid hexadecimal string.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the content of the given InputStream does not have the given digest.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasDigest(AssertionInfo info, InputStream actual, String algorithm, String expected) {
+    assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
+  }
+
+  /**
+   * Asserts that the given InputStream has the given number of bytes, the stream is read by chunks until its end.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the "actual" InputStream.
+   * @param expectedSize the expected number of bytes.
+   * @throws IllegalArgumentException if {@code expectedSize} is negative.
+   * @throws AssertionError if {@code actual} is {@code null}.
+   * @throws AssertionError if the given InputStream does not have the given number of bytes.
+   * @throws InputStreamsException if an I/O error occurs.
+   */
+  public void assertHasSize(AssertionInfo info, InputStream actual, long expectedSize) {
+    if (expectedSize < 0) throw new IllegalArgumentException("The expected size should not be negative");
+    assertNotNull(info, actual);
+    try {
+      long size = sizeOf(actual);
+      if (size == expectedSize) return;
+      throw failures.failure(info, shouldHaveSize(actual, size, expectedSize));
+    } catch (IOException e) {
+      String msg = format("Unable to read InputStream:%n  <%s>", actual);
+      throw new InputStreamsException(msg, e);
+    }
+  }
+
+  private static long sizeOf(InputStream stream) throws IOException {
+    byte[] buffer = new byte[Digests.BUFFER_SIZE];
+    long size = 0;
+    for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+      size += read;
+    }
+    return size;
+  }
+
   private static void assertNotNull(AssertionInfo info, InputStream stream) {
     Objects.instance().assertNotNull(info, stream);
   }
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
 import static org.assertj.core.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
@@ -25,6 +26,12 @@ import static org.assertj.core.error.ElementsShouldNotBe.elementsShouldNotBe;
 import static org.assertj.core.error.ElementsShouldNotHave.elementsShouldNotHave;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSorted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSortedAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeStrictlySorted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeStrictlySortedAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveComparableElementsAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveMutuallyComparableElements;
 import static org.assertj.core.error.ShouldBeSubsetOf.shouldBeSubsetOf;
 import static org.assertj.core.error.ShouldContain.shouldContain;
 import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
@@ -51,6 +58,7 @@ import static org.assertj.core.util.Iterables.isNullOrEmpty;
 import static org.assertj.core.util.Iterables.sizeOf;
 import static org.assertj.core.util.Lists.*;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -61,6 +69,7 @@ import java.util.Set;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
+import org.assertj.core.internal.ParallelChecks.ElementCheck;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -217,9 +226,11 @@ public class Iterables {
   }
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
+    ElementMultiset actualElements = ElementMultiset.forContains(actual, comparisonStrategy, values.length);
+    if (ParallelChecks.isWorthFor(values.length) && allContainedIn(values, actualElements)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     for (Object value : values) {
-      if (!iterableContains(actual, value)) {
+      if (!actualElements.contains(value)) {
         notFound.add(value);
       }
     }
@@ -229,17 +240,22 @@ public class Iterables {
   }
 
   /**
-   * Delegates to {@link ComparisonStrategy#iterableContains(Iterable, Object)}
+   * Checks in parallel that all the given values are in the given indexed elements.
    */
-  private boolean iterableContains(Iterable<?> actual, Object value) {
-    return comparisonStrategy.iterableContains(actual, value);
+  private static boolean allContainedIn(Object[] values, final ElementMultiset actualElements) {
+    return ParallelChecks.allMatch(values, new ElementCheck() {
+      @Override
+      public boolean check(Object value) {
+        return actualElements.contains(value);
+      }
+    });
   }
 
   /**
-   * Delegates to {@link ComparisonStrategy#iterableRemoves(Iterable, Object)}
+   * Delegates to {@link ComparisonStrategy#iterableContains(Iterable, Object)}
    */
-  private void iterableRemoves(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
+  private boolean iterableContains(Iterable<?> actual, Object value) {
+    return comparisonStrategy.iterableContains(actual, value);
   }
 
   /**
@@ -257,65 +273,50 @@ public class Iterables {
   public void assertContainsOnly(AssertionInfo info, Iterable<?> actual, Object[] values) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, values))
       return;
-    // check for elements in values that are missing in actual.
-    Set<Object> notExpected = setFromIterable(actual);
-    Set<Object> notFound = containsOnly(notExpected, values);
+    // check for elements in values that are missing in actual and for elements in actual that are not in values.
+    Set<Object> notFound = distinctElementsNotIn(asList(values), actual);
+    Set<Object> notExpected = distinctElementsNotIn(actual, asList(values));
     if (notExpected.isEmpty() && notFound.isEmpty()) {
       return;
     }
     throw failures.failure(info, shouldContainOnly(actual, values, notFound, notExpected, comparisonStrategy));
   }
 
-  private Set<Object> containsOnly(Set<Object> actual, Object[] values) {
-    Set<Object> notFound = new LinkedHashSet<>();
-    for (Object o : set(values)) {
-      if (iterableContains(actual, o)) {
-        iterableRemoves(actual, o);
-      } else {
-        notFound.add(o);
-      }
-    }
-    return notFound;
-  }
-
-  /**
-   * build a Set with that avoid duplicates <b>according to given comparison strategy</b>
-   * 
-   * @param elements to feed the Set we want to build
-   * @return a Set without duplicates <b>according to given comparison strategy</b>
-   */
-  private Set<Object> set(Object... elements) {
-    if (elements == null) {
-      return null;
-    }
-    Set<Object> set = new HashSet<>();
-    for (Object e : elements) {
-      // only add is not already there
-      if (!iterableContains(set, e)) {
-        set.add(e);
-      }
-    }
-    return set;
-  }
-
   /**
-   * build a Set with that avoid duplicates <b>according to given comparison strategy</b>
+   * Returns the elements not contained in the given container <b>according to given comparison strategy</b>, without
+   * duplicates and in iteration order.
+   * <p>
+   * The container is indexed once (see {@link ElementMultiset}) so that this method does not compare each element to
+   * all the container elements.
    * 
-   * @param iterable to feed the Set we want to build
-   * @return a Set without duplicates <b>according to given comparison strategy</b>
+   * @param elements the elements to look for in container
+   * @param container the elements to look into
+   * @return the elements not contained in container, without duplicates <b>according to given comparison strategy</b>
    */
-  private Set<Object> setFromIterable(Iterable<?> iterable) {
-    if (iterable == null) {
-      return null;
+  private Set<Object> distinctElementsNotIn(Iterable<?> elements, Iterable<?> container) {
+    final ElementMultiset containerElements = ElementMultiset.of(container, comparisonStrategy);
+    Iterable<?> candidates = elements;
+    if (canCheckInParallel(elements)) {
+      // only keep the elements not contained, in iteration order
+      Object[] elementArray = ((Collection<?>) elements).toArray();
+      boolean[] contained = ParallelChecks.checkAll(elementArray, new ElementCheck() {
+        @Override
+        public boolean check(Object element) {
+          return containerElements.contains(element);
+        }
+      });
+      candidates = elementsWithResult(elementArray, contained, false);
     }
-    Set<Object> set = new HashSet<>();
-    for (Object e : iterable) {
-      // only add is not already there
-      if (!iterableContains(set, e)) {
-        set.add(e);
-      }
+    Set<Object> notContained = new LinkedHashSet<>();
+    Set<Object> notContainedKeys = new HashSet<>();
+    for (Object element : candidates) {
+      if (containerElements.contains(element)) continue;
+      // only add if not already there
+      boolean alreadyThere = comparisonStrategy.isStandard() ? !notContainedKeys.add(ElementMultiset.hashKeyOf(element))
+          : iterableContains(notContained, element);
+      if (!alreadyThere) notContained.add(element);
     }
-    return set;
+    return notContained;
   }
 
   /**
@@ -336,11 +337,12 @@ public class Iterables {
     // check for elements in values that are missing in actual.
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
-    Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
+    ElementMultiset actualElements = ElementMultiset.of(actual, comparisonStrategy);
     for (Object expectedOnlyOnce : values) {
-      if (!iterableContains(actual, expectedOnlyOnce)) {
+      int occurrences = actualElements.count(expectedOnlyOnce);
+      if (occurrences == 0) {
         notFound.add(expectedOnlyOnce);
-      } else if (iterableContains(actualDuplicates, expectedOnlyOnce)) {
+      } else if (occurrences > 1) {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
@@ -365,13 +367,9 @@ public class Iterables {
   public void assertContainsSequence(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     if (commonCheckThatIterableAssertionSucceeds(info, actual, sequence))
       return;
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int i = 0; i < actualAsList.size(); i++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, i)) {
-        return;
-      }
+    // look for given sequence in a single pass over actual
+    if (KnuthMorrisPratt.containsSequence(actual, sequence, comparisonStrategy)) {
+      return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
@@ -424,9 +422,11 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(info, values);
+    // values are indexed once instead of being scanned for each actual element
+    ElementMultiset valuesElements = ElementMultiset.of(values, comparisonStrategy);
     List<Object> extra = newArrayList();
     for (Object actualElement : actual) {
-      if (!iterableContains(values, actualElement)) {
+      if (!valuesElements.contains(actualElement)) {
         extra.add(actualElement);
       }
     }
@@ -435,27 +435,6 @@ public class Iterables {
     }
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   * 
-   * @param actualAsList the list to look sequance in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) {
-      return false;
-    }
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) {
-        return false;
-      }
-    }
-    return true;
-  }
-
   /**
    * Delegates to {@link ComparisonStrategy#areEqual(Object, Object)}
    */
@@ -485,9 +464,10 @@ public class Iterables {
   public void assertDoesNotContain(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
+    ElementMultiset actualElements = ElementMultiset.forContains(actual, comparisonStrategy, values.length);
     Set<Object> found = new LinkedHashSet<>();
     for (Object o : values) {
-      if (iterableContains(actual, o)) {
+      if (actualElements.contains(o)) {
         found.add(o);
       }
     }
@@ -527,6 +507,9 @@ public class Iterables {
    */
   public void assertDoesNotHaveDuplicates(AssertionInfo info, Iterable<?> actual) {
     assertNotNull(info, actual);
+    // elements are checked in parallel to pass quickly, duplicates are looked for again to report them
+    if (comparisonStrategy.isStandard() && canCheckInParallel(actual)
+        && ParallelChecks.haveNoDuplicates(((Collection<?>) actual).toArray())) return;
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(actual);
     if (isNullOrEmpty(duplicates)) {
       return;
@@ -599,6 +582,146 @@ public class Iterables {
     }
   }
 
+  /**
+   * Verifies that the actual {@code Iterable} is sorted into ascending order according to the natural ordering of its
+   * elements (or to the comparator of the comparison strategy if any).
+   * <p>
+   * All elements must implement the {@link Comparable} interface and must be mutually comparable. Empty iterables are
+   * considered sorted, unique element iterables are considered sorted unless the element type is not Comparable.
+   * <p>
+   * Elements are read once, the {@code Iterable} does not need to support indexed access.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted into ascending order.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually {@link Comparable}.
+   */
+  public void assertIsSorted(AssertionInfo info, Iterable<?> actual) {
+    assertIsSorted(info, actual, false);
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is sorted into strictly ascending order according to the natural
+   * ordering of its elements (or to the comparator of the comparison strategy if any), i.e. that each element is less
+   * than the next one.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted into strictly ascending order.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually {@link Comparable}.
+   */
+  public void assertIsStrictlySorted(AssertionInfo info, Iterable<?> actual) {
+    assertIsSorted(info, actual, true);
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is sorted according to the given comparator. Empty iterables are
+   * considered sorted whatever the comparator is, one element iterables are considered sorted if the element is
+   * compatible with the comparator.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param comparator the {@link Comparator} used to compare elements.
+   * @throws AssertionError if the actual {@code Iterable} is not sorted according to the given comparator.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually comparable according to the given
+   *           comparator.
+   */
+  public void assertIsSortedAccordingToComparator(AssertionInfo info, Iterable<?> actual, Comparator<?> comparator) {
+    assertIsSortedAccordingToComparator(info, actual, comparator, false);
+  }
+
+  /**
+   * Verifies that the actual {@code Iterable} is strictly sorted according to the given comparator, i.e. that each
+   * element is less than the next one.
+   * 
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterable}.
+   * @param comparator the {@link Comparator} used to compare elements.
+   * @throws AssertionError if the actual {@code Iterable} is not strictly sorted according to the given comparator.
+   * @throws AssertionError if the actual {@code Iterable} is {@code null}.
+   * @throws NullPointerException if the given comparator is {@code null}.
+   * @throws AssertionError if the actual {@code Iterable} elements are not mutually comparable according to the given
+   *           comparator.
+   */
+  public void assertIsStrictlySortedAccordingToComparator(AssertionInfo info, Iterable<?> actual,
+                                                          Comparator<?> comparator) {
+    assertIsSortedAccordingToComparator(info, actual, comparator, true);
+  }
+
+  private void assertIsSorted(AssertionInfo info, Iterable<?> actual, boolean strictly) {
+    assertNotNull(info, actual);
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      // instead of comparing elements with their natural comparator, use the one set by client.
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      assertIsSortedAccordingToComparator(info, actual, comparator, strictly);
+      return;
+    }
+    try {
+      int index = indexOfFirstElementOutOfOrder(actual, null, strictly);
+      if (index < 0) return;
+      throw failures.failure(info, strictly ? shouldBeStrictlySorted(index, actual) : shouldBeSorted(index, actual));
+    } catch (ClassCastException e) {
+      // elements are either not Comparable or not mutually Comparable (e.g. List<Object> containing String and Integer)
+      throw failures.failure(info, shouldHaveMutuallyComparableElements(actual));
+    }
+  }
+
+  private void assertIsSortedAccordingToComparator(AssertionInfo info, Iterable<?> actual, Comparator<?> comparator,
+                                                   boolean strictly) {
+    assertNotNull(info, actual);
+    if (comparator == null) throw new NullPointerException("The given comparator should not be null");
+    try {
+      int index = indexOfFirstElementOutOfOrder(actual, comparator, strictly);
+      if (index < 0) return;
+      throw failures.failure(info, strictly ? shouldBeStrictlySortedAccordingToGivenComparator(index, actual, comparator)
+          : shouldBeSortedAccordingToGivenComparator(index, actual, comparator));
+    } catch (ClassCastException e) {
+      throw failures.failure(info, shouldHaveComparableElementsAccordingToGivenComparator(actual, comparator));
+    }
+  }
+
+  /**
+   * Returns the index of the first element greater than the next one (or not less than the next one if strictly), -1 if
+   * the elements are sorted. Elements are read in a single pass keeping the previous one, which is O(n) whatever the
+   * {@code Iterable} is (no {@code List.get(int)} calls).
+   * 
+   * @param elements the elements to check.
+   * @param comparator the {@link Comparator} used to compare elements, natural ordering is used if {@code null}.
+   * @param strictly whether equal consecutive elements are out of order.
+   * @return the index of the first element out of order, -1 if none.
+   * @throws ClassCastException if elements are not mutually comparable.
+   */
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  static int indexOfFirstElementOutOfOrder(Iterable<?> elements, Comparator<?> comparator, boolean strictly) {
+    Comparator rawComparator = comparator;
+    Iterator<?> iterator = elements.iterator();
+    // Empty iterables are considered sorted even if comparator can't be applied to their element type
+    if (!iterator.hasNext()) return -1;
+    Object previous = iterator.next();
+    if (!iterator.hasNext()) {
+      // verify that the unique element is compatible with comparator (a ClassCastException is thrown if not)
+      if (rawComparator == null) Comparable.class.cast(previous);
+      else rawComparator.compare(previous, previous);
+      return -1;
+    }
+    // element i is in order if it compares to element i+1 as less or equal (less if strictly)
+    int greatestComparisonInOrder = strictly ? -1 : 0;
+    int index = 0;
+    while (iterator.hasNext()) {
+      Object current = iterator.next();
+      int comparison = rawComparator == null ? ((Comparable) previous).compareTo(current)
+          : rawComparator.compare(previous, current);
+      if (comparison > greatestComparisonInOrder) return index;
+      previous = current;
+      index++;
+    }
+    return -1;
+  }
+
   private boolean commonCheckThatIterableAssertionSucceeds(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     checkIsNotNull(sequence);
     assertNotNull(info, actual);
@@ -762,8 +885,8 @@ public class Iterables {
 
   private <E> boolean conditionIsSatisfiedAtLeastNTimes(Iterable<? extends E> actual, int n,
                                                         Condition<? super E> condition) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() >= n;
+    // no need to evaluate the remaining elements once n of them satisfy the condition
+    return countElementsSatisfying(actual, condition, n) >= n;
   }
 
   /**
@@ -793,8 +916,8 @@ public class Iterables {
 
   private <E> boolean conditionIsSatisfiedAtMostNTimes(Iterable<? extends E> actual, Condition<? super E> condition,
                                                        int n) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() <= n;
+    // no need to evaluate the remaining elements once more than n of them satisfy the condition
+    return countElementsSatisfying(actual, condition, moreThan(n)) <= n;
   }
 
   /**
@@ -823,8 +946,11 @@ public class Iterables {
   }
 
   private <E> boolean conditionIsSatisfiedNTimes(Iterable<? extends E> actual, Condition<? super E> condition, int times) {
-    List<E> satisfiesCondition = satisfiesCondition(actual, condition);
-    return satisfiesCondition.size() == times;
+    return countElementsSatisfying(actual, condition, moreThan(times)) == times;
+  }
+
+  private static int moreThan(int n) {
+    return n == Integer.MAX_VALUE ? n : n + 1;
   }
 
   /**
@@ -912,8 +1038,10 @@ public class Iterables {
   public void assertContainsExactly(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertHasSameSizeAs(info, actual, values); // include check that actual is not null
-    Set<Object> notExpected = setFromIterable(actual);
-    Set<Object> notFound = containsOnly(notExpected, values);
+    if (elementsAreEqualInOrder(actual, values)) return;
+    // analyse the differences to report them
+    Set<Object> notFound = distinctElementsNotIn(asList(values), actual);
+    Set<Object> notExpected = distinctElementsNotIn(actual, asList(values));
     if (notExpected.isEmpty() && notFound.isEmpty()) {
       // actual and values have the same elements but are they in the same order.
       int i = 0;
@@ -928,6 +1056,17 @@ public class Iterables {
     throw failures.failure(info, shouldContainExactly(actual, values, notFound, notExpected, comparisonStrategy));
   }
 
+  /**
+   * Compares the elements of actual and values pairwise, in order, actual must have as many elements as values.
+   */
+  private boolean elementsAreEqualInOrder(Iterable<?> actual, Object[] values) {
+    int i = 0;
+    for (Object element : actual) {
+      if (!areEqual(element, values[i++])) return false;
+    }
+    return true;
+  }
+
   private void assertNotNull(AssertionInfo info, Iterable<?> actual) {
     Objects.instance().assertNotNull(info, actual);
   }
@@ -937,23 +1076,67 @@ public class Iterables {
   }
 
   private <E> List<E> notSatisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    List<E> notSatisfiesCondition = new LinkedList<>();
-    for (E o : actual) {
-      if (!condition.matches(o)) {
-        notSatisfiesCondition.add(o);
-      }
-    }
-    return notSatisfiesCondition;
+    return elementsWithConditionResult(actual, condition, false);
   }
 
   private <E> List<E> satisfiesCondition(Iterable<? extends E> actual, Condition<? super E> condition) {
-    List<E> satisfiesCondition = new LinkedList<>();
+    return elementsWithConditionResult(actual, condition, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E> List<E> elementsWithConditionResult(Iterable<? extends E> actual, final Condition<? super E> condition,
+                                                  boolean matching) {
+    if (canCheckInParallel(actual)) {
+      Object[] elements = ((Collection<?>) actual).toArray();
+      boolean[] matches = ParallelChecks.checkAll(elements, new ElementCheck() {
+        @Override
+        public boolean check(Object element) {
+          return condition.matches((E) element);
+        }
+      });
+      return (List<E>) elementsWithResult(elements, matches, matching);
+    }
+    List<E> elements = new LinkedList<>();
     for (E o : actual) {
-      if (condition.matches(o)) {
-        satisfiesCondition.add(o);
+      if (condition.matches(o) == matching) {
+        elements.add(o);
       }
     }
-    return satisfiesCondition;
+    return elements;
+  }
+
+  /**
+   * Returns the number of elements satisfying the given condition, elements are counted without being collected and
+   * are not evaluated anymore once {@code maxCount} of them satisfy the condition.
+   */
+  @SuppressWarnings("unchecked")
+  private <E> int countElementsSatisfying(Iterable<? extends E> actual, final Condition<? super E> condition,
+                                          int maxCount) {
+    if (canCheckInParallel(actual)) {
+      return ParallelChecks.countMatches(((Collection<?>) actual).toArray(), new ElementCheck() {
+        @Override
+        public boolean check(Object element) {
+          return condition.matches((E) element);
+        }
+      }, maxCount);
+    }
+    int count = 0;
+    for (E element : actual) {
+      if (condition.matches(element) && ++count >= maxCount) break;
+    }
+    return count;
+  }
+
+  private static List<Object> elementsWithResult(Object[] elements, boolean[] results, boolean result) {
+    List<Object> elementsWithResult = new LinkedList<>();
+    for (int i = 0; i < elements.length; i++) {
+      if (results[i] == result) elementsWithResult.add(elements[i]);
+    }
+    return elementsWithResult;
+  }
+
+  private static boolean canCheckInParallel(Iterable<?> iterable) {
+    return iterable instanceof Collection && ParallelChecks.isWorthFor(((Collection<?>) iterable).size());
   }
 
   static public NullPointerException iterableToLookForIsNull() {
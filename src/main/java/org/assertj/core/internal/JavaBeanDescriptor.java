@@ -12,9 +12,11 @@
  */
 package org.assertj.core.internal;
 
+import static org.assertj.core.util.introspection.Introspection.getReadMethodHandle;
+
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 /**
  * Wrapper for <code>{@link PropertyDescriptor}</code>.
@@ -24,8 +26,12 @@ import java.lang.reflect.Method;
 class JavaBeanDescriptor {
 
   Object invokeReadMethod(PropertyDescriptor d, Object o) throws IllegalAccessException, InvocationTargetException {
-    Method readMethod = d.getReadMethod();
-    readMethod.setAccessible(true);
-    return readMethod.invoke(o);
+    MethodHandle readMethod = getReadMethodHandle(d, o);
+    try {
+      return (Object) readMethod.invokeExact(o);
+    } catch (Throwable t) {
+      // report exceptions thrown by the read method as reflection does
+      throw new InvocationTargetException(t);
+    }
   }
 }
@@ -0,0 +1,104 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Looks for a sequence of elements in an {@link Iterable} with the Knuth-Morris-Pratt algorithm ("Fast Pattern Matching
+ * in Strings").
+ * <p>
+ * For each prefix of the sequence, the length of its longest proper prefix that is also a suffix is computed once
+ * (failure function), the {@link Iterable} is then read in a single pass without going back : on a mismatch the
+ * search resumes from the longest partial match already read instead of the next starting element.
+ * <p>
+ * The failure function skips are only sound when element equality is an equivalence, it is thus only used with the
+ * standard {@link ComparisonStrategy}. Other strategies may be backed by a comparator that is not transitive (ex: a
+ * tolerance comparator), the last elements read are then kept in a ring buffer and compared to the whole sequence at
+ * each position, still in a single pass.
+ */
+class KnuthMorrisPratt {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  // length of the longest proper prefix of sequence[0, i] that is also a suffix of it
+  private final int[] failures;
+
+  private KnuthMorrisPratt(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    failures = new int[sequence.length];
+    for (int i = 1; i < sequence.length; i++) {
+      failures[i] = advance(failures[i - 1], sequence[i]);
+    }
+  }
+
+  /**
+   * Returns true if the given elements contain the given sequence, without any other elements between them.
+   *
+   * @param elements the elements to look the sequence in, read only once.
+   * @param sequence the sequence to look for, must not be empty.
+   * @param comparisonStrategy the {@link ComparisonStrategy} defining element equality.
+   * @return true if the given elements contain the given sequence.
+   */
+  static boolean containsSequence(Iterable<?> elements, Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    if (!comparisonStrategy.isStandard()) return slidingContainsSequence(elements, sequence, comparisonStrategy);
+    return new KnuthMorrisPratt(sequence, comparisonStrategy).isIn(elements);
+  }
+
+  /**
+   * Compares the sequence with each window of the elements, without relying on the transitivity of element equality.
+   */
+  private static boolean slidingContainsSequence(Iterable<?> elements, Object[] sequence,
+                                                 ComparisonStrategy comparisonStrategy) {
+    // last elements read, the oldest one being at next once the window is full
+    Object[] window = new Object[sequence.length];
+    int next = 0;
+    boolean full = false;
+    for (Object element : elements) {
+      window[next++] = element;
+      if (next == window.length) {
+        next = 0;
+        full = true;
+      }
+      if (full && windowMatches(window, next, sequence, comparisonStrategy)) return true;
+    }
+    return false;
+  }
+
+  private static boolean windowMatches(Object[] window, int oldest, Object[] sequence,
+                                       ComparisonStrategy comparisonStrategy) {
+    for (int i = 0; i < sequence.length; i++) {
+      if (!comparisonStrategy.areEqual(window[(oldest + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  private boolean isIn(Iterable<?> elements) {
+    int matched = 0;
+    for (Object element : elements) {
+      matched = advance(matched, element);
+      if (matched == sequence.length) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the length of the sequence prefix matched once the given element is read after a match of the given length.
+   */
+  private int advance(int matched, Object element) {
+    while (!comparisonStrategy.areEqual(element, sequence[matched])) {
+      if (matched == 0) return 0;
+      matched = failures[matched - 1];
+    }
+    return matched + 1;
+  }
+}
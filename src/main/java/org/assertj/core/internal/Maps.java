@@ -440,7 +440,9 @@ public class Maps {
 	if (actual.isEmpty() && entries.length == 0) return;
 	failIfEmpty(entries);
 	assertHasSameSizeAs(info, actual, entries);
+	if (entriesAreEqualInOrder(actual, entries)) return;
 
+	// analyse the differences to report them
 	Set<MapEntry<? extends K, ? extends V>> notFound = new LinkedHashSet<>();
 	Set<MapEntry<? extends K, ? extends V>> notExpected = new LinkedHashSet<>();
 
@@ -463,6 +465,23 @@ public class Maps {
 	throw failures.failure(info, shouldContainExactly(actual, entries, notFound, notExpected));
   }
 
+  /**
+   * Compares the entries of actual and the given entries pairwise, in order, actual must have as many entries as given.
+   * <p>
+   * Keys must also be keys of actual according to its own semantics (ex: identity for an {@link java.util.IdentityHashMap}
+   * or for array keys), as when differences are analysed.
+   */
+  private static <K, V> boolean entriesAreEqualInOrder(Map<K, V> actual, MapEntry<? extends K, ? extends V>[] entries) {
+	int index = 0;
+	for (Map.Entry<K, V> actualEntry : actual.entrySet()) {
+	  MapEntry<? extends K, ? extends V> entry = entries[index++];
+	  if (entry == null || !areEqual(actualEntry.getKey(), entry.key) || !actual.containsKey(entry.key)
+		  || !areEqual(actualEntry.getValue(), entry.value))
+		return false;
+	}
+	return true;
+  }
+
   private <K, V> void compareActualMapAndExpectedKeys(Map<K, V> actual, K[] keys, Set<K> notExpected, Set<K> notFound) {
 
 	Map<K, V> actualEntries = new LinkedHashMap<>(actual);
@@ -0,0 +1,229 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the differences between two lists of lines with the O(ND) algorithm of Eugene W. Myers ("An O(ND)
+ * Difference Algorithm and Its Variations"), using its linear space refinement: the middle snake of the shortest edit
+ * script is searched from both ends and each half is then diffed recursively.
+ * <p>
+ * When the search for a middle snake becomes too expensive (very different inputs), the furthest reaching point found
+ * so far is used instead, the result is then a valid but not always minimal edit script.
+ * <p>
+ * The differences are returned as {@link Hunk}s, each one being a block of expected lines replaced by a block of actual
+ * lines, one of them possibly being empty (lines inserted in actual or deleted from expected).
+ */
+class MyersDiff {
+
+  private static final int MIN_COST_LIMIT = 256;
+
+  private final int[] expected;
+  private final int[] actual;
+  private final boolean[] expectedChanged;
+  private final boolean[] actualChanged;
+  // furthest reaching x of forward and backward searches indexed by diagonal (x - y) + diagonalOffset
+  private final int[] forwardDiagonals;
+  private final int[] backwardDiagonals;
+  private final int diagonalOffset;
+  private final int costLimit;
+
+  private MyersDiff(List<String> expectedLines, List<String> actualLines) {
+    // compare ints rather than strings
+    Map<String, Integer> lineIds = new HashMap<>();
+    expected = idsOf(expectedLines, lineIds);
+    actual = idsOf(actualLines, lineIds);
+    expectedChanged = new boolean[expected.length];
+    actualChanged = new boolean[actual.length];
+    int diagonals = expected.length + actual.length + 3;
+    forwardDiagonals = new int[diagonals];
+    backwardDiagonals = new int[diagonals];
+    diagonalOffset = actual.length + 1;
+    costLimit = Math.max(MIN_COST_LIMIT, (int) Math.sqrt(diagonals));
+  }
+
+  /**
+   * Returns the differences between the given expected and actual lines.
+   *
+   * @param expectedLines the expected lines.
+   * @param actualLines the actual lines.
+   * @return the differences between the given lines, in order, empty if they are equal.
+   */
+  static List<Hunk> diff(List<String> expectedLines, List<String> actualLines) {
+    MyersDiff myersDiff = new MyersDiff(expectedLines, actualLines);
+    myersDiff.compare(0, myersDiff.expected.length, 0, myersDiff.actual.length);
+    return myersDiff.hunks();
+  }
+
+  private static int[] idsOf(List<String> lines, Map<String, Integer> lineIds) {
+    int[] ids = new int[lines.size()];
+    int i = 0;
+    for (String line : lines) {
+      Integer id = lineIds.get(line);
+      if (id == null) {
+        id = lineIds.size();
+        lineIds.put(line, id);
+      }
+      ids[i++] = id;
+    }
+    return ids;
+  }
+
+  /**
+   * Marks the changed lines of expected[expectedStart, expectedEnd[ and actual[actualStart, actualEnd[.
+   */
+  private void compare(int expectedStart, int expectedEnd, int actualStart, int actualEnd) {
+    // skip common prefix and suffix
+    while (expectedStart < expectedEnd && actualStart < actualEnd && expected[expectedStart] == actual[actualStart]) {
+      expectedStart++;
+      actualStart++;
+    }
+    while (expectedEnd > expectedStart && actualEnd > actualStart && expected[expectedEnd - 1] == actual[actualEnd - 1]) {
+      expectedEnd--;
+      actualEnd--;
+    }
+    if (expectedStart == expectedEnd) {
+      for (int y = actualStart; y < actualEnd; y++) actualChanged[y] = true;
+    } else if (actualStart == actualEnd) {
+      for (int x = expectedStart; x < expectedEnd; x++) expectedChanged[x] = true;
+    } else {
+      int[] middle = middleSnake(expectedStart, expectedEnd, actualStart, actualEnd);
+      compare(expectedStart, middle[0], actualStart, middle[1]);
+      compare(middle[0], expectedEnd, middle[1], actualEnd);
+    }
+  }
+
+  /**
+   * Returns the point (x in expected, y in actual) where the forward and backward searches of the shortest edit script
+   * meet, both halves of the given area are then smaller than the whole area.
+   */
+  private int[] middleSnake(int xStart, int xEnd, int yStart, int yEnd) {
+    final int[] fd = forwardDiagonals;
+    final int[] bd = backwardDiagonals;
+    final int off = diagonalOffset;
+    final int minDiagonal = xStart - yEnd;
+    final int maxDiagonal = xEnd - yStart;
+    final int forwardMiddle = xStart - yStart;
+    final int backwardMiddle = xEnd - yEnd;
+    final boolean odd = ((forwardMiddle - backwardMiddle) & 1) != 0;
+    int forwardMin = forwardMiddle, forwardMax = forwardMiddle;
+    int backwardMin = backwardMiddle, backwardMax = backwardMiddle;
+    fd[off + forwardMiddle] = xStart;
+    bd[off + backwardMiddle] = xEnd;
+
+    for (int cost = 1;; cost++) {
+      // extend the forward search by one edit
+      if (forwardMin > minDiagonal) fd[off + --forwardMin - 1] = -1;
+      else forwardMin++;
+      if (forwardMax < maxDiagonal) fd[off + ++forwardMax + 1] = -1;
+      else forwardMax--;
+      for (int d = forwardMax; d >= forwardMin; d -= 2) {
+        int low = fd[off + d - 1], high = fd[off + d + 1];
+        int x = low >= high ? low + 1 : high;
+        int y = x - d;
+        while (x < xEnd && y < yEnd && expected[x] == actual[y]) {
+          x++;
+          y++;
+        }
+        fd[off + d] = x;
+        if (odd && backwardMin <= d && d <= backwardMax && bd[off + d] <= x) return new int[] { x, y };
+      }
+      // extend the backward search by one edit
+      if (backwardMin > minDiagonal) bd[off + --backwardMin - 1] = Integer.MAX_VALUE;
+      else backwardMin++;
+      if (backwardMax < maxDiagonal) bd[off + ++backwardMax + 1] = Integer.MAX_VALUE;
+      else backwardMax--;
+      for (int d = backwardMax; d >= backwardMin; d -= 2) {
+        int low = bd[off + d - 1], high = bd[off + d + 1];
+        int x = low < high ? low : high - 1;
+        int y = x - d;
+        while (x > xStart && y > yStart && expected[x - 1] == actual[y - 1]) {
+          x--;
+          y--;
+        }
+        bd[off + d] = x;
+        if (!odd && forwardMin <= d && d <= forwardMax && x <= fd[off + d]) return new int[] { x, y };
+      }
+      if (cost >= costLimit) return furthestForwardPoint(forwardMin, forwardMax, xEnd, yEnd);
+    }
+  }
+
+  private int[] furthestForwardPoint(int forwardMin, int forwardMax, int xEnd, int yEnd) {
+    int bestX = -1, bestY = -1;
+    for (int d = forwardMax; d >= forwardMin; d -= 2) {
+      int x = Math.min(forwardDiagonals[diagonalOffset + d], xEnd);
+      int y = x - d;
+      if (y > yEnd) {
+        y = yEnd;
+        x = y + d;
+      }
+      if (x + y > bestX + bestY) {
+        bestX = x;
+        bestY = y;
+      }
+    }
+    return new int[] { bestX, bestY };
+  }
+
+  private List<Hunk> hunks() {
+    List<Hunk> hunks = new ArrayList<>();
+    int x = 0, y = 0;
+    while (x < expected.length || y < actual.length) {
+      if (x < expected.length && y < actual.length && !expectedChanged[x] && !actualChanged[y]) {
+        x++;
+        y++;
+        continue;
+      }
+      int expectedStart = x, actualStart = y;
+      while (x < expected.length && expectedChanged[x]) x++;
+      while (y < actual.length && actualChanged[y]) y++;
+      hunks.add(new Hunk(expectedStart, x, actualStart, y));
+    }
+    return hunks;
+  }
+
+  /**
+   * Expected lines [expectedStart, expectedEnd[ replaced by actual lines [actualStart, actualEnd[ (0 based indexes).
+   */
+  static class Hunk {
+    final int expectedStart;
+    final int expectedEnd;
+    final int actualStart;
+    final int actualEnd;
+
+    Hunk(int expectedStart, int expectedEnd, int actualStart, int actualEnd) {
+      this.expectedStart = expectedStart;
+      this.expectedEnd = expectedEnd;
+      this.actualStart = actualStart;
+      this.actualEnd = actualEnd;
+    }
+
+    int expectedLength() {
+      return expectedEnd - expectedStart;
+    }
+
+    int actualLength() {
+      return actualEnd - actualStart;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Hunk[expected=[%d, %d[, actual=[%d, %d[]", expectedStart, expectedEnd, actualStart,
+                           actualEnd);
+    }
+  }
+}
@@ -39,6 +39,7 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
@@ -534,7 +535,7 @@ public class Objects {
 	List<Object> rejectedValues = new LinkedList<>();
 	List<Object> expectedValues = new LinkedList<>();
 	List<String> nullFields = new LinkedList<>();
-	for (Field field : getDeclaredFieldsIncludingInherited(actual.getClass())) {
+	for (Field field : FieldComparisonPlan.of(actual.getClass()).fields()) {
 	  try {
 		Object otherFieldValue = getFieldOrPropertyValue(other, field.getName());
 		if (otherFieldValue == null) {
@@ -572,7 +573,7 @@ public class Objects {
   public <A> void assertIsEqualToComparingOnlyGivenFields(AssertionInfo info, A actual, A other, String... fields) {
 	assertNotNull(info, actual);
 	assertOtherTypeIsCompatibleWithActualClass(info, other, actual.getClass());
-	ByFieldsComparison byFieldsComparison = isEqualToComparingOnlyGivenFields(actual, other, fields);
+	ByFieldsComparison byFieldsComparison = isEqualToComparingOnlyGivenFields(actual, other, fields, false);
 	if (byFieldsComparison.isFieldsNamesNotEmpty())
 	  throw failures.failure(info, shouldBeEqualComparingOnlyGivenFields(actual, byFieldsComparison.fieldsNames,
 	                                                                     byFieldsComparison.rejectedValues,
@@ -580,7 +581,8 @@ public class Objects {
 	                                                                     newArrayList(fields)));
   }
 
-  private <A> ByFieldsComparison isEqualToComparingOnlyGivenFields(A actual, A other, String[] fields) {
+  private <A> ByFieldsComparison isEqualToComparingOnlyGivenFields(A actual, A other, String[] fields,
+	                                                                  boolean stopAtFirstDifference) {
 	List<String> rejectedFieldsNames = new LinkedList<>();
 	List<Object> expectedValues = new LinkedList<>();
 	List<Object> rejectedValues = new LinkedList<>();
@@ -591,6 +593,7 @@ public class Objects {
 		rejectedFieldsNames.add(fieldName);
 		expectedValues.add(otherFieldValue);
 		rejectedValues.add(actualFieldValue);
+		if (stopAtFirstDifference) break;
 	  }
 	}
 	return new ByFieldsComparison(rejectedFieldsNames, expectedValues, rejectedValues);
@@ -612,7 +615,7 @@ public class Objects {
   public <A> void assertIsEqualToIgnoringGivenFields(AssertionInfo info, A actual, A other, String... fields) {
 	assertNotNull(info, actual);
 	assertOtherTypeIsCompatibleWithActualClass(info, other, actual.getClass());
-	ByFieldsComparison byFieldsComparison = isEqualToIgnoringGivenFields(actual, other, fields);
+	ByFieldsComparison byFieldsComparison = isEqualToIgnoringGivenFields(actual, other, fields, false);
 	if (byFieldsComparison.isFieldsNamesNotEmpty())
 	  throw failures.failure(info, shouldBeEqualToIgnoringGivenFields(actual, byFieldsComparison.fieldsNames,
 	                                                                  byFieldsComparison.rejectedValues,
@@ -620,16 +623,18 @@ public class Objects {
 	                                                                  newArrayList(fields)));
   }
 
-  private <A> ByFieldsComparison isEqualToIgnoringGivenFields(A actual, A other, String[] givenIgnoredFields) {
-	Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
-	verifyIgnoredFieldsExist(actual, declaredFieldsIncludingInherited, givenIgnoredFields);
+  private <A> ByFieldsComparison isEqualToIgnoringGivenFields(A actual, A other, String[] givenIgnoredFields,
+	                                                             boolean stopAtFirstDifference) {
+	FieldComparisonPlan comparisonPlan = FieldComparisonPlan.of(actual.getClass());
+	verifyIgnoredFieldsExist(actual, comparisonPlan, givenIgnoredFields);
 	List<String> fieldsNames = new LinkedList<>();
 	List<Object> expectedValues = new LinkedList<>();
 	List<Object> rejectedValues = new LinkedList<>();
-	Set<String> ignoredFields = newLinkedHashSet(givenIgnoredFields);
-	for (Field field : declaredFieldsIncludingInherited) {
+	Set<String> ignoredFields = givenIgnoredFields.length == 0 ? Collections.<String> emptySet()
+	    : newLinkedHashSet(givenIgnoredFields);
+	for (Field field : comparisonPlan.fields()) {
 	  // ignore private field if user has decided not to use them in comparison
-	  if (ignoredFields.contains(field.getName()) || !canReadFieldValue(field, actual)) {
+	  if (ignoredFields.contains(field.getName()) || !comparisonPlan.canRead(field, fieldSupport, actual)) {
 		continue;
 	  }
 	  Object actualFieldValue = getFieldOrPropertyValue(actual, field.getName());
@@ -638,19 +643,16 @@ public class Objects {
 		fieldsNames.add(field.getName());
 		rejectedValues.add(actualFieldValue);
 		expectedValues.add(otherFieldValue);
+		if (stopAtFirstDifference) break;
 	  }
 	}
 	return new ByFieldsComparison(fieldsNames, expectedValues, rejectedValues);
   }
 
-  private <A> boolean canReadFieldValue(Field field, A actual) {
-	return fieldSupport.isAllowedToRead(field) || propertySupport.publicGetterExistsFor(field.getName(), actual);
-  }
-
-  private <A> void verifyIgnoredFieldsExist(A actual, Set<Field> declaredFields, String[] ignoredFields) {
-	Set<String> ignoredFieldsNotDefined = newLinkedHashSet(ignoredFields);
-	for (Field f : declaredFields) {
-	  ignoredFieldsNotDefined.remove(f.getName());
+  private <A> void verifyIgnoredFieldsExist(A actual, FieldComparisonPlan comparisonPlan, String[] ignoredFields) {
+	Set<String> ignoredFieldsNotDefined = newLinkedHashSet();
+	for (String ignoredField : ignoredFields) {
+	  if (!comparisonPlan.hasField(ignoredField)) ignoredFieldsNotDefined.add(ignoredField);
 	}
 	if (!ignoredFieldsNotDefined.isEmpty()) {
 	  throw new IllegalArgumentException(format("Fields to ignore <%s> not defined for type <%s>",
@@ -670,38 +672,22 @@ public class Objects {
    * @throws IntrospectionError is field value can't get retrieved.
    */
   private <A> Object getFieldOrPropertyValue(A a, String fieldName) {
-	try {
-	  return fieldSupport.fieldValue(fieldName, Object.class, a);
-	} catch (IntrospectionError e) {
+	// don't try to read a field known to be inaccessible, go straight to its getter
+	if (a == null || !FieldComparisonPlan.of(a.getClass()).isFieldNotReadable(fieldName, fieldSupport)) {
 	  try {
+		return fieldSupport.fieldValue(fieldName, Object.class, a);
+	  } catch (IntrospectionError e) {
 		// field is not accessible, let's try to get its value from its getter if any.
-		return propertySupport.propertyValueOf(fieldName, Object.class, a);
-	  } catch (IntrospectionError e2) {
-		// this time, we really fail
-		String msg = format("Unable to obtain the value of <'%s'> field/property from <%s>, expecting a public field or getter",
-		                    fieldName, a);
-		throw new IntrospectionError(msg);
 	  }
 	}
-  }
-
-  /**
-   * Returns the declared fields of given class and its superclasses stopping at superclass in <code>java.lang</code>
-   * package whose fields are not included.
-   *
-   * @param clazz the class we want the declared fields.
-   * @return the declared fields of given class and its superclasses.
-   */
-  private static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
-	if (clazz == null) throw new NullPointerException("expecting Class parameter not to be null");
-	Set<Field> declaredFields = newLinkedHashSet(clazz.getDeclaredFields());
-	// get fields declared in superclass
-	Class<?> superclazz = clazz.getSuperclass();
-	while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
-	  declaredFields.addAll(newLinkedHashSet(superclazz.getDeclaredFields()));
-	  superclazz = superclazz.getSuperclass();
+	try {
+	  return propertySupport.propertyValueOf(fieldName, Object.class, a);
+	} catch (IntrospectionError e2) {
+	  // this time, we really fail
+	  String msg = format("Unable to obtain the value of <'%s'> field/property from <%s>, expecting a public field or getter",
+		                  fieldName, a);
+	  throw new IntrospectionError(msg);
 	}
-	return declaredFields;
   }
 
   /**
@@ -724,11 +710,11 @@ public class Objects {
   }
 
   public boolean areEqualToIgnoringGivenFields(Object actual, Object other, String... fields) {
-	return isEqualToIgnoringGivenFields(actual, other, fields).isFieldsNamesEmpty();
+	return isEqualToIgnoringGivenFields(actual, other, fields, true).isFieldsNamesEmpty();
   }
 
   public boolean areEqualToComparingOnlyGivenFields(Object actual, Object other, String... fields) {
-	return isEqualToComparingOnlyGivenFields(actual, other, fields).isFieldsNamesEmpty();
+	return isEqualToComparingOnlyGivenFields(actual, other, fields, true).isFieldsNamesEmpty();
   }
 
   public static class ByFieldsComparison {
@@ -0,0 +1,325 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs element-wise checks of large iterables and arrays over a {@link ForkJoinPool}.
+ * <p>
+ * Parallel checks are disabled by default, they are used for iterables and arrays having at least
+ * {@link #setParallelThreshold(int) parallel threshold} elements. Results are always gathered in element order so that
+ * assertions report the same errors as when elements are checked one after the other.
+ * <p>
+ * As elements are checked from several threads, the conditions and comparators used by the assertions must be thread
+ * safe.
+ */
+public final class ParallelChecks {
+
+  /**
+   * Threshold disabling parallel checks, no iterable or array has that many elements.
+   */
+  public static final int DISABLED = Integer.MAX_VALUE;
+  // splits elements in a few more tasks than workers so that a slow chunk does not keep the other workers idle
+  private static final int TASKS_PER_WORKER = 4;
+  private static volatile int parallelThreshold = DISABLED;
+
+  private ParallelChecks() {}
+
+  /**
+   * Sets the number of elements from which iterables and arrays elements are checked in parallel.
+   *
+   * @param threshold the minimum number of elements to check them in parallel, {@link #DISABLED} by default.
+   * @throws IllegalArgumentException if the given threshold is not strictly positive.
+   */
+  public static void setParallelThreshold(int threshold) {
+    if (threshold < 1)
+      throw new IllegalArgumentException(format("The parallel threshold should be greater than 0 but was <%s>",
+                                                threshold));
+    parallelThreshold = threshold;
+  }
+
+  /**
+   * Returns true if that many elements should be checked in parallel.
+   *
+   * @param elementCount the number of elements to check.
+   * @return true if that many elements should be checked in parallel.
+   */
+  static boolean isWorthFor(int elementCount) {
+    return elementCount >= parallelThreshold;
+  }
+
+  /**
+   * A check of a single element, it must not depend on the other elements checks.
+   */
+  interface ElementCheck {
+    boolean check(Object element);
+  }
+
+  /**
+   * Returns the result of the given check for each element.
+   *
+   * @param elements the elements to check.
+   * @param check the check to perform on each element.
+   * @return the results of the checks, in element order.
+   */
+  static boolean[] checkAll(Object[] elements, ElementCheck check) {
+    boolean[] results = new boolean[elements.length];
+    pool().invoke(new ChecksTask(elements, check, results, null, 0, elements.length, chunkSizeFor(elements.length)));
+    return results;
+  }
+
+  /**
+   * Returns true if the given check passes for all elements, remaining checks are skipped as soon as one fails.
+   *
+   * @param elements the elements to check.
+   * @param check the check to perform on each element.
+   * @return true if the given check passes for all elements.
+   */
+  static boolean allMatch(Object[] elements, ElementCheck check) {
+    AtomicBoolean failed = new AtomicBoolean();
+    pool().invoke(new ChecksTask(elements, check, null, failed, 0, elements.length, chunkSizeFor(elements.length)));
+    return !failed.get();
+  }
+
+  /**
+   * Returns the number of elements passing the given check, remaining checks are skipped as soon as {@code maxCount}
+   * elements pass it.
+   *
+   * @param elements the elements to check.
+   * @param check the check to perform on each element.
+   * @param maxCount the number of passing elements from which the exact count does not matter.
+   * @return the number of elements passing the given check if less than {@code maxCount}, a number greater or equal
+   *         to {@code maxCount} otherwise.
+   */
+  static int countMatches(Object[] elements, ElementCheck check, int maxCount) {
+    AtomicInteger count = new AtomicInteger();
+    pool().invoke(new CountTask(elements, check, count, maxCount, 0, elements.length, chunkSizeFor(elements.length)));
+    return count.get();
+  }
+
+  /**
+   * Returns true if no element is equal to another one according to {@link StandardComparisonStrategy}.
+   * <p>
+   * The hash keys of the elements (see {@link ElementMultiset#hashKeyOf(Object)}) and the partition of their hash code
+   * are computed in parallel, element indices are then grouped by partition in a single pass and each task looks for
+   * duplicates among the keys of its own partition.
+   *
+   * @param elements the elements to check.
+   * @return true if no element is equal to another one.
+   */
+  static boolean haveNoDuplicates(Object[] elements) {
+    Object[] keys = new Object[elements.length];
+    int[] partitions = new int[elements.length];
+    int partitionCount = pool().getParallelism() * TASKS_PER_WORKER;
+    pool().invoke(new HashKeysTask(elements, keys, partitions, partitionCount, 0, elements.length,
+                                   chunkSizeFor(elements.length)));
+    // counting sort of the element indices by partition, partition p indices are in [starts[p], starts[p + 1][
+    int[] starts = new int[partitionCount + 1];
+    for (int partition : partitions) {
+      starts[partition + 1]++;
+    }
+    for (int p = 0; p < partitionCount; p++) {
+      starts[p + 1] += starts[p];
+    }
+    int[] indices = new int[elements.length];
+    int[] next = java.util.Arrays.copyOf(starts, partitionCount);
+    for (int i = 0; i < partitions.length; i++) {
+      indices[next[partitions[i]]++] = i;
+    }
+    AtomicBoolean failed = new AtomicBoolean();
+    pool().invoke(new DistinctKeysTask(keys, indices, starts, failed, 0, partitionCount));
+    return !failed.get();
+  }
+
+  private static int chunkSizeFor(int elementCount) {
+    return Math.max(1, elementCount / (pool().getParallelism() * TASKS_PER_WORKER));
+  }
+
+  private static ForkJoinPool pool() {
+    return PoolHolder.POOL;
+  }
+
+  // lazily creates the pool (and its daemon worker threads) on the first parallel check
+  private static class PoolHolder {
+    private static final ForkJoinPool POOL = new ForkJoinPool();
+  }
+
+  private static class ChecksTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final ElementCheck check;
+    private final boolean[] results;
+    private final AtomicBoolean failed;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    /**
+     * Either records each check result in results, or flags the first failed check in failed when results is null.
+     */
+    ChecksTask(Object[] elements, ElementCheck check, boolean[] results, AtomicBoolean failed, int from, int to,
+               int chunkSize) {
+      this.elements = elements;
+      this.check = check;
+      this.results = results;
+      this.failed = failed;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > chunkSize) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new ChecksTask(elements, check, results, failed, from, middle, chunkSize),
+                  new ChecksTask(elements, check, results, failed, middle, to, chunkSize));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        if (results != null) results[i] = check.check(elements[i]);
+        else if (failed.get()) return;
+        else if (!check.check(elements[i])) failed.set(true);
+      }
+    }
+  }
+
+  private static class CountTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final ElementCheck check;
+    private final AtomicInteger count;
+    private final int maxCount;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    CountTask(Object[] elements, ElementCheck check, AtomicInteger count, int maxCount, int from, int to,
+              int chunkSize) {
+      this.elements = elements;
+      this.check = check;
+      this.count = count;
+      this.maxCount = maxCount;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > chunkSize) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new CountTask(elements, check, count, maxCount, from, middle, chunkSize),
+                  new CountTask(elements, check, count, maxCount, middle, to, chunkSize));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        if (count.get() >= maxCount) return;
+        if (check.check(elements[i])) count.incrementAndGet();
+      }
+    }
+  }
+
+  private static class HashKeysTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] elements;
+    private final Object[] keys;
+    private final int[] partitions;
+    private final int partitionCount;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    HashKeysTask(Object[] elements, Object[] keys, int[] partitions, int partitionCount, int from, int to,
+                 int chunkSize) {
+      this.elements = elements;
+      this.keys = keys;
+      this.partitions = partitions;
+      this.partitionCount = partitionCount;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > chunkSize) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new HashKeysTask(elements, keys, partitions, partitionCount, from, middle, chunkSize),
+                  new HashKeysTask(elements, keys, partitions, partitionCount, middle, to, chunkSize));
+        return;
+      }
+      for (int i = from; i < to; i++) {
+        keys[i] = ElementMultiset.hashKeyOf(elements[i]);
+        int hash = keys[i] == null ? 0 : keys[i].hashCode();
+        partitions[i] = ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % partitionCount;
+      }
+    }
+  }
+
+  private static class DistinctKeysTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] keys;
+    private final int[] indices;
+    private final int[] starts;
+    private final AtomicBoolean failed;
+    private final int fromPartition;
+    private final int toPartition;
+
+    /**
+     * Looks for duplicates among the keys of partitions [fromPartition, toPartition[, the indices of partition p keys
+     * being in indices[starts[p], starts[p + 1][. Equal keys having equal hashes, duplicates are always in the same
+     * partition.
+     */
+    DistinctKeysTask(Object[] keys, int[] indices, int[] starts, AtomicBoolean failed, int fromPartition,
+                     int toPartition) {
+      this.keys = keys;
+      this.indices = indices;
+      this.starts = starts;
+      this.failed = failed;
+      this.fromPartition = fromPartition;
+      this.toPartition = toPartition;
+    }
+
+    @Override
+    protected void compute() {
+      if (toPartition - fromPartition > 1) {
+        int middle = (fromPartition + toPartition) >>> 1;
+        invokeAll(new DistinctKeysTask(keys, indices, starts, failed, fromPartition, middle),
+                  new DistinctKeysTask(keys, indices, starts, failed, middle, toPartition));
+        return;
+      }
+      Set<Object> distinctKeys = new HashSet<>();
+      for (int i = starts[fromPartition]; i < starts[fromPartition + 1]; i++) {
+        if (failed.get()) return;
+        if (!distinctKeys.add(keys[indices[i]])) failed.set(true);
+      }
+    }
+  }
+}
@@ -28,6 +28,8 @@ import static org.assertj.core.error.ShouldExist.shouldExist;
 import static org.assertj.core.error.ShouldExist.shouldExistNoFollowLinks;
 import static org.assertj.core.error.ShouldHaveBinaryContent.shouldHaveBinaryContent;
 import static org.assertj.core.error.ShouldHaveContent.shouldHaveContent;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveSameDigest;
 import static org.assertj.core.error.ShouldHaveEqualContent.shouldHaveEqualContent;
 import static org.assertj.core.error.ShouldHaveName.shouldHaveName;
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
@@ -35,11 +37,11 @@ import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldNotExist.shouldNotExist;
 import static org.assertj.core.error.ShouldStartWithPath.shouldStartWith;
 
-import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -274,10 +276,9 @@ public class Paths {
 	if (expected == null) throw new NullPointerException("The text to compare to should not be null");
 	assertIsReadable(info, actual);
 	try {
-	  File actualAsFile = actual.toFile();
-	  List<String> diffs = diff.diff(actualAsFile, expected, charset);
+	  List<String> diffs = diff.diff(actual, expected, charset);
 	  if (diffs.isEmpty()) return;
-	  throw failures.failure(info, shouldHaveContent(actualAsFile, charset, diffs));
+	  throw failures.failure(info, shouldHaveContent(actual, charset, diffs));
 	} catch (IOException e) {
 	  throw new FilesException(format("Unable to verify text contents of file:<%s>", actual), e);
 	}
@@ -286,13 +287,12 @@ public class Paths {
   public void assertHasBinaryContent(AssertionInfo info, Path actual, byte[] expected) {
 	if (expected == null) throw new NullPointerException("The binary content to compare to should not be null");
 	assertIsReadable(info, actual);
-	File actualFile = actual.toFile();
 	try {
-	  BinaryDiffResult diffResult = binaryDiff.diff(actualFile, expected);
+	  BinaryDiffResult diffResult = binaryDiff.diff(actual, expected);
 	  if (diffResult.hasNoDiff()) return;
-	  throw failures.failure(info, shouldHaveBinaryContent(actualFile, diffResult));
+	  throw failures.failure(info, shouldHaveBinaryContent(actual, diffResult));
 	} catch (IOException e) {
-	  throw new FilesException(format("Unable to verify binary contents of file:<%s>", actualFile), e);
+	  throw new FilesException(format("Unable to verify binary contents of file:<%s>", actual), e);
 	}
   }
 
@@ -304,14 +304,49 @@ public class Paths {
 	  throw new IllegalArgumentException(format("The given Path <%s> to compare actual content to should be readable", expected));
 	// @format:on
 	assertIsReadable(info, actual);
-	File expectedFile = expected.toFile();
-	File actualFile = actual.toFile();
 	try {
-	  List<String> diffs = diff.diff(actualFile, expectedFile);
+	  List<String> diffs = diff.diff(actual, expected);
 	  if (diffs.isEmpty()) return;
-	  throw failures.failure(info, shouldHaveEqualContent(actualFile, expectedFile, diffs));
+	  throw failures.failure(info, shouldHaveEqualContent(actual, expected, diffs));
 	} catch (IOException e) {
-	  throw new FilesException(format("Unable to compare contents of files:<%s> and:<%s>", actualFile, expectedFile), e);
+	  throw new FilesException(format("Unable to compare contents of files:<%s> and:<%s>", actual, expected), e);
+	}
+  }
+
+  public void assertHasDigest(AssertionInfo info, Path actual, String algorithm, byte[] expected) {
+	MessageDigest digest = Digests.messageDigest(algorithm);
+	if (expected == null) throw new NullPointerException("The expected digest should not be null");
+	assertIsReadable(info, actual);
+	try {
+	  DigestDiff diff = new DigestDiff(algorithm, expected, FileDigests.digestOf(actual, digest));
+	  if (!diff.digestsDiffer()) return;
+	  throw failures.failure(info, shouldHaveDigest(actual, diff));
+	} catch (IOException e) {
+	  throw new FilesException(format("Unable to compute %s digest of file:<%s>", algorithm, actual), e);
+	}
+  }
+
+  public void assertHasDigest(AssertionInfo info, Path actual, String algorithm, String expected) {
+	assertHasDigest(info, actual, algorithm, Digests.fromHex(expected));
+  }
+
+  public void assertHasSameDigestAs(AssertionInfo info, Path actual, String algorithm, Path expected) {
+	MessageDigest digest = Digests.messageDigest(algorithm);
+	// @format:off
+	if (expected == null)
+	  throw new NullPointerException("The given Path to compare actual digest to should not be null");
+	if (!nioFilesWrapper.isReadable(expected))
+	  throw new IllegalArgumentException(format("The given Path <%s> to compare actual digest to should be readable", expected));
+	// @format:on
+	assertIsReadable(info, actual);
+	try {
+	  byte[] expectedDigest = FileDigests.expectedDigestOf(expected, digest);
+	  DigestDiff diff = new DigestDiff(algorithm, expectedDigest, FileDigests.digestOf(actual, digest));
+	  if (!diff.digestsDiffer()) return;
+	  throw failures.failure(info, shouldHaveSameDigest(actual, expected, diff));
+	} catch (IOException e) {
+	  throw new FilesException(format("Unable to compare %s digests of files:<%s> and:<%s>", algorithm, actual,
+		                              expected), e);
 	}
   }
 
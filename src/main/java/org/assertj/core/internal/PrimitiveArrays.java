@@ -0,0 +1,382 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.getLength;
+
+/**
+ * Checks on arrays of primitives made without boxing their elements, for the standard comparison strategy.
+ * <p>
+ * Elements are compared through their {@code long} "bits": integral values (and chars) are widened, {@code float} and
+ * {@code double} values are converted with {@link Float#floatToIntBits(float)} and
+ * {@link Double#doubleToLongBits(double)}, booleans are 0 or 1. Two elements are then equal if and only if their
+ * wrappers are equal, which is how the standard comparison strategy compares them (ex: {@code NaN} is equal to
+ * {@code NaN}, {@code 0.0} is not equal to {@code -0.0}).
+ * <p>
+ * The methods only tell whether a check passes, the caller is expected to fall back to its generic (boxing)
+ * implementation to report a failure.
+ */
+final class PrimitiveArrays {
+
+  // below this number of values, looking them up linearly is cheaper than sorting actual
+  private static final int MAX_LINEAR_LOOKUPS = 8;
+
+  /**
+   * Returns true if the given array is an array of primitives.
+   *
+   * @param array the array to check.
+   * @return true if the given array is an array of primitives.
+   */
+  static boolean isPrimitiveArray(Object array) {
+    return array != null && array.getClass().isArray() && array.getClass().getComponentType().isPrimitive();
+  }
+
+  /**
+   * Returns true if the given arrays are arrays of the same primitive type.
+   *
+   * @param actual the actual array.
+   * @param values the other array.
+   * @return true if the given arrays are arrays of the same primitive type.
+   */
+  static boolean arePrimitiveArraysOfSameType(Object actual, Object values) {
+    return isPrimitiveArray(actual) && values != null && actual.getClass() == values.getClass();
+  }
+
+  static boolean containsAll(Object actual, Object values) {
+    int valuesLength = getLength(values);
+    if (valuesLength <= MAX_LINEAR_LOOKUPS) {
+      for (int i = 0; i < valuesLength; i++) {
+        if (indexOf(actual, 0, bitsAt(values, i)) < 0) return false;
+      }
+      return true;
+    }
+    return containsAll(sortedBitsOf(actual), bitsOf(values));
+  }
+
+  static boolean containsNone(Object actual, Object values) {
+    int valuesLength = getLength(values);
+    if (valuesLength <= MAX_LINEAR_LOOKUPS) {
+      for (int i = 0; i < valuesLength; i++) {
+        if (indexOf(actual, 0, bitsAt(values, i)) >= 0) return false;
+      }
+      return true;
+    }
+    long[] sortedActual = sortedBitsOf(actual);
+    for (long value : bitsOf(values)) {
+      if (java.util.Arrays.binarySearch(sortedActual, value) >= 0) return false;
+    }
+    return true;
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    long[] actualBits = bitsOf(actual);
+    long[] valuesBits = bitsOf(values);
+    return containsAll(sorted(actualBits.clone()), valuesBits) && containsAll(sorted(valuesBits), actualBits);
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    int length = getLength(actual);
+    if (length != getLength(values)) return false;
+    return regionMatches(actual, 0, values, length);
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    int sequenceLength = getLength(sequence);
+    int lastStart = getLength(actual) - sequenceLength;
+    for (int start = 0; start <= lastStart; start++) {
+      if (regionMatches(actual, start, sequence, sequenceLength)) return true;
+    }
+    return false;
+  }
+
+  static boolean containsSubsequence(Object actual, Object subsequence) {
+    int start = 0;
+    for (long value : bitsOf(subsequence)) {
+      int index = indexOf(actual, start, value);
+      if (index < 0) return false;
+      start = index + 1;
+    }
+    return true;
+  }
+
+  static boolean startsWith(Object actual, Object sequence) {
+    int sequenceLength = getLength(sequence);
+    if (getLength(actual) < sequenceLength) return false;
+    return regionMatches(actual, 0, sequence, sequenceLength);
+  }
+
+  static boolean endsWith(Object actual, Object sequence) {
+    int sequenceLength = getLength(sequence);
+    int start = getLength(actual) - sequenceLength;
+    if (start < 0) return false;
+    return regionMatches(actual, start, sequence, sequenceLength);
+  }
+
+  static boolean hasNoDuplicates(Object actual) {
+    long[] sortedActual = sortedBitsOf(actual);
+    for (int i = 1; i < sortedActual.length; i++) {
+      if (sortedActual[i - 1] == sortedActual[i]) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the given array is sorted according to the natural order of the element wrappers.
+   *
+   * @param actual the array to check.
+   * @return true if the given array is sorted.
+   */
+  static boolean isSorted(Object actual) {
+    if (actual instanceof float[]) {
+      float[] array = (float[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (Float.compare(array[i - 1], array[i]) > 0) return false;
+      }
+      return true;
+    }
+    if (actual instanceof double[]) {
+      double[] array = (double[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (Double.compare(array[i - 1], array[i]) > 0) return false;
+      }
+      return true;
+    }
+    if (actual instanceof int[]) {
+      int[] array = (int[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+      return true;
+    }
+    if (actual instanceof long[]) {
+      long[] array = (long[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+      return true;
+    }
+    if (actual instanceof byte[]) {
+      byte[] array = (byte[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+      return true;
+    }
+    if (actual instanceof short[]) {
+      short[] array = (short[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+      return true;
+    }
+    if (actual instanceof char[]) {
+      char[] array = (char[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] > array[i]) return false;
+      }
+      return true;
+    }
+    if (actual instanceof boolean[]) {
+      // false is lower than true
+      boolean[] array = (boolean[]) actual;
+      for (int i = 1; i < array.length; i++) {
+        if (array[i - 1] && !array[i]) return false;
+      }
+      return true;
+    }
+    throw notAPrimitiveArray();
+  }
+
+  private static boolean containsAll(long[] sortedActual, long[] values) {
+    for (long value : values) {
+      if (java.util.Arrays.binarySearch(sortedActual, value) < 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Compares the given region of actual with the first elements of other, both arrays being of the same primitive type.
+   * The array type is checked once, elements are then compared in a loop specific to that type.
+   */
+  private static boolean regionMatches(Object actual, int actualStart, Object other, int length) {
+    if (actual instanceof int[]) {
+      int[] actualInts = (int[]) actual, otherInts = (int[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualInts[actualStart + i] != otherInts[i]) return false;
+      }
+    } else if (actual instanceof long[]) {
+      long[] actualLongs = (long[]) actual, otherLongs = (long[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualLongs[actualStart + i] != otherLongs[i]) return false;
+      }
+    } else if (actual instanceof double[]) {
+      double[] actualDoubles = (double[]) actual, otherDoubles = (double[]) other;
+      for (int i = 0; i < length; i++) {
+        if (Double.doubleToLongBits(actualDoubles[actualStart + i]) != Double.doubleToLongBits(otherDoubles[i]))
+          return false;
+      }
+    } else if (actual instanceof byte[]) {
+      byte[] actualBytes = (byte[]) actual, otherBytes = (byte[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualBytes[actualStart + i] != otherBytes[i]) return false;
+      }
+    } else if (actual instanceof short[]) {
+      short[] actualShorts = (short[]) actual, otherShorts = (short[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualShorts[actualStart + i] != otherShorts[i]) return false;
+      }
+    } else if (actual instanceof char[]) {
+      char[] actualChars = (char[]) actual, otherChars = (char[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualChars[actualStart + i] != otherChars[i]) return false;
+      }
+    } else if (actual instanceof float[]) {
+      float[] actualFloats = (float[]) actual, otherFloats = (float[]) other;
+      for (int i = 0; i < length; i++) {
+        if (Float.floatToIntBits(actualFloats[actualStart + i]) != Float.floatToIntBits(otherFloats[i])) return false;
+      }
+    } else if (actual instanceof boolean[]) {
+      boolean[] actualBooleans = (boolean[]) actual, otherBooleans = (boolean[]) other;
+      for (int i = 0; i < length; i++) {
+        if (actualBooleans[actualStart + i] != otherBooleans[i]) return false;
+      }
+    } else {
+      throw notAPrimitiveArray();
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the first element of actual from the given index whose bits are equal to the given value, -1
+   * if there is none. The array type is checked once, elements are then compared in a loop specific to that type.
+   */
+  private static int indexOf(Object actual, int from, long value) {
+    if (actual instanceof int[]) {
+      int[] ints = (int[]) actual;
+      for (int i = from; i < ints.length; i++) {
+        if (ints[i] == value) return i;
+      }
+    } else if (actual instanceof long[]) {
+      long[] longs = (long[]) actual;
+      for (int i = from; i < longs.length; i++) {
+        if (longs[i] == value) return i;
+      }
+    } else if (actual instanceof double[]) {
+      double[] doubles = (double[]) actual;
+      for (int i = from; i < doubles.length; i++) {
+        if (Double.doubleToLongBits(doubles[i]) == value) return i;
+      }
+    } else if (actual instanceof byte[]) {
+      byte[] bytes = (byte[]) actual;
+      for (int i = from; i < bytes.length; i++) {
+        if (bytes[i] == value) return i;
+      }
+    } else if (actual instanceof short[]) {
+      short[] shorts = (short[]) actual;
+      for (int i = from; i < shorts.length; i++) {
+        if (shorts[i] == value) return i;
+      }
+    } else if (actual instanceof char[]) {
+      char[] chars = (char[]) actual;
+      for (int i = from; i < chars.length; i++) {
+        if (chars[i] == value) return i;
+      }
+    } else if (actual instanceof float[]) {
+      float[] floats = (float[]) actual;
+      for (int i = from; i < floats.length; i++) {
+        if (Float.floatToIntBits(floats[i]) == value) return i;
+      }
+    } else if (actual instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) actual;
+      for (int i = from; i < booleans.length; i++) {
+        if ((booleans[i] ? 1 : 0) == value) return i;
+      }
+    } else {
+      throw notAPrimitiveArray();
+    }
+    return -1;
+  }
+
+  private static long[] sortedBitsOf(Object array) {
+    return sorted(bitsOf(array));
+  }
+
+  private static long[] sorted(long[] bits) {
+    java.util.Arrays.sort(bits);
+    return bits;
+  }
+
+  private static long[] bitsOf(Object array) {
+    int length = getLength(array);
+    long[] bits = new long[length];
+    if (array instanceof long[]) {
+      System.arraycopy(array, 0, bits, 0, length);
+    } else if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = ints[i];
+      }
+    } else if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = Double.doubleToLongBits(doubles[i]);
+      }
+    } else if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = bytes[i];
+      }
+    } else if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = shorts[i];
+      }
+    } else if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = chars[i];
+      }
+    } else if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = Float.floatToIntBits(floats[i]);
+      }
+    } else if (array instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) array;
+      for (int i = 0; i < length; i++) {
+        bits[i] = booleans[i] ? 1 : 0;
+      }
+    } else {
+      throw notAPrimitiveArray();
+    }
+    return bits;
+  }
+
+  private static long bitsAt(Object array, int index) {
+    if (array instanceof int[]) return ((int[]) array)[index];
+    if (array instanceof long[]) return ((long[]) array)[index];
+    if (array instanceof double[]) return Double.doubleToLongBits(((double[]) array)[index]);
+    if (array instanceof byte[]) return ((byte[]) array)[index];
+    if (array instanceof short[]) return ((short[]) array)[index];
+    if (array instanceof char[]) return ((char[]) array)[index];
+    if (array instanceof float[]) return Float.floatToIntBits(((float[]) array)[index]);
+    if (array instanceof boolean[]) return ((boolean[]) array)[index] ? 1 : 0;
+    throw notAPrimitiveArray();
+  }
+
+  private static IllegalArgumentException notAPrimitiveArray() {
+    return new IllegalArgumentException("The object should be an array of primitives");
+  }
+
+  private PrimitiveArrays() {}
+}
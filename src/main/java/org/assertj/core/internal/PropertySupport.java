@@ -20,6 +20,8 @@ import static org.assertj.core.util.introspection.Introspection.getProperty;
 import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.introspection.IntrospectionError;
@@ -38,6 +40,11 @@ public class PropertySupport {
 
   private static final PropertySupport INSTANCE = new PropertySupport();
 
+  private static final int PROPERTY_PATHS_MAX_SIZE = 1024;
+
+  // nested property names split into simple property names
+  private static final ConcurrentMap<String, String[]> PROPERTY_PATHS = new ConcurrentHashMap<>();
+
   /**
    * Returns the singleton instance of this class.
    * 
@@ -71,13 +78,14 @@ public class PropertySupport {
     if (isNullOrEmpty(target)) {
       return emptyList();
     }
-    if (isNestedProperty(propertyName)) {
-      String firstPropertyName = popPropertyNameFrom(propertyName);
-      Iterable<Object> propertyValues = propertyValues(firstPropertyName, Object.class, target);
-      // extract next sub-property values until reaching the last sub-property
-      return propertyValues(nextPropertyNameFrom(propertyName), clazz, propertyValues);
+    String[] propertyPath = propertyPathOf(propertyName);
+    Iterable<?> propertyValues = target;
+    int last = propertyPath.length - 1;
+    // extract sub-property values until reaching the last sub-property
+    for (int i = 0; i < last; i++) {
+      propertyValues = simplePropertyValues(propertyPath[i], Object.class, propertyValues);
     }
-    return simplePropertyValues(propertyName, clazz, target);
+    return simplePropertyValues(propertyPath[last], clazz, propertyValues);
   }
 
   /**
@@ -103,6 +111,26 @@ public class PropertySupport {
     return unmodifiableList(propertyValues);
   }
 
+  /**
+   * Returns the simple property names of the given property name, the result is cached as the same nested properties
+   * are usually extracted from many objects.
+   */
+  private String[] propertyPathOf(String propertyName) {
+    String[] propertyPath = PROPERTY_PATHS.get(propertyName);
+    if (propertyPath != null) return propertyPath;
+    List<String> propertyNames = new ArrayList<>();
+    String remainingPropertyNames = propertyName;
+    while (isNestedProperty(remainingPropertyNames)) {
+      propertyNames.add(popPropertyNameFrom(remainingPropertyNames));
+      remainingPropertyNames = nextPropertyNameFrom(remainingPropertyNames);
+    }
+    propertyNames.add(remainingPropertyNames);
+    propertyPath = propertyNames.toArray(new String[propertyNames.size()]);
+    if (PROPERTY_PATHS.size() >= PROPERTY_PATHS_MAX_SIZE) PROPERTY_PATHS.clear();
+    PROPERTY_PATHS.put(propertyName, propertyPath);
+    return propertyPath;
+  }
+
   private String popPropertyNameFrom(String propertyNameChain) {
     if (!isNestedProperty(propertyNameChain)) {
       return propertyNameChain;
@@ -177,13 +205,15 @@ public class PropertySupport {
     // returns null if target is null as we can't extract a property from a null object
     if (target == null) return null;
 
-    if (isNestedProperty(propertyName)) {
-      String firstPropertyName = popPropertyNameFrom(propertyName);
-      Object propertyValue = propertyValue(firstPropertyName, Object.class, target);
-      // extract next sub-property values until reaching the last sub-property
-      return propertyValueOf(nextPropertyNameFrom(propertyName), clazz, propertyValue);
+    String[] propertyPath = propertyPathOf(propertyName);
+    Object propertyValue = target;
+    int last = propertyPath.length - 1;
+    // extract sub-property values until reaching the last sub-property
+    for (int i = 0; i < last; i++) {
+      propertyValue = propertyValue(propertyPath[i], Object.class, propertyValue);
+      if (propertyValue == null) return null;
     }
-    return propertyValue(propertyName, clazz, target);
+    return propertyValue(propertyPath[last], clazz, propertyValue);
   }
 
   /**
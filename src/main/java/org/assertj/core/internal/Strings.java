@@ -12,7 +12,6 @@
  */
 package org.assertj.core.internal;
 
-import static java.lang.String.format;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
 import static org.assertj.core.error.ShouldBeEqualIgnoringCase.shouldBeEqual;
@@ -38,12 +37,12 @@ import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 
 import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
 
-import java.io.IOException;
-import java.io.LineNumberReader;
-import java.io.StringReader;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -61,6 +60,9 @@ import org.assertj.core.util.VisibleForTesting;
 public class Strings {
 
   private static final Strings INSTANCE = new Strings();
+  private static final int PATTERN_CACHE_MAX_SIZE = 256;
+  // regexes are usually asserted many times, compile them once
+  private static final PatternCache PATTERNS = new PatternCache(PATTERN_CACHE_MAX_SIZE);
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
@@ -83,6 +85,34 @@ public class Strings {
     this.comparisonStrategy = comparisonStrategy;
   }
 
+  /**
+   * Returns the number of regular expressions found already compiled by {@code matches(String)} and
+   * {@code doesNotMatch(String)} assertions since the JVM started or {@link #clearPatternCache()} was called.
+   * 
+   * @return the number of compiled pattern cache hits.
+   */
+  public static long patternCacheHitCount() {
+    return PATTERNS.hitCount.get();
+  }
+
+  /**
+   * Returns the number of regular expressions compiled by {@code matches(String)} and {@code doesNotMatch(String)}
+   * assertions because they were not in the compiled pattern cache, since the JVM started or
+   * {@link #clearPatternCache()} was called.
+   * 
+   * @return the number of compiled pattern cache misses.
+   */
+  public static long patternCacheMissCount() {
+    return PATTERNS.missCount.get();
+  }
+
+  /**
+   * Empties the compiled pattern cache and resets its hit and miss counts.
+   */
+  public static void clearPatternCache() {
+    PATTERNS.clear();
+  }
+
   @VisibleForTesting
   public Comparator<?> getComparator() {
     if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
@@ -166,14 +196,27 @@ public class Strings {
    */
   public void assertHasLineCount(AssertionInfo info, CharSequence actual, int expectedLineCount) {
     assertNotNull(info, actual);
-    LineNumberReader reader = new LineNumberReader(new StringReader(actual.toString()));
-    try {
-        while ((reader.readLine()) != null);
-    } catch (IOException e) {
-      String msg = format("Unable to count lines in `%s`", actual);
-      throw new InputStreamsException(msg, e);
+    checkLineCounts(actual, lineCountOf(actual), expectedLineCount, info);
+  }
+
+  /**
+   * Counts lines as {@link java.io.BufferedReader#readLine()} reads them: a line is terminated by '\n', '\r' or "\r\n",
+   * the last line may not be terminated.
+   */
+  private static int lineCountOf(CharSequence actual) {
+    int lineCount = 0;
+    boolean lineStarted = false;
+    for (int i = 0, length = actual.length(); i < length; i++) {
+      char c = actual.charAt(i);
+      if (c == '\n' || c == '\r') {
+        lineCount++;
+        lineStarted = false;
+        if (c == '\r' && i + 1 < length && actual.charAt(i + 1) == '\n') i++;
+      } else {
+        lineStarted = true;
+      }
     }
-    checkLineCounts(actual, reader.getLineNumber(), expectedLineCount, info);
+    return lineStarted ? lineCount + 1 : lineCount;
   }
 
   /**
@@ -230,12 +273,7 @@ public class Strings {
     checkIsNotNull(values);
     checkIsNotEmpty(values);
     checkCharSequenceIsNotNull(values[0]);
-    Set<CharSequence> notFound = new LinkedHashSet<>();
-    for (CharSequence value : values) {
-      if (!stringContains(actual, value)) {
-        notFound.add(value);
-      }
-    }
+    Set<CharSequence> notFound = notFoundIn(actual, values);
     if (notFound.isEmpty())
       return;
     if (notFound.size() == 1 && values.length == 1) {
@@ -257,12 +295,70 @@ public class Strings {
   }
 
   /**
-   * Delegates to {@link ComparisonStrategy#stringContains(String, String)}
+   * Returns the given values not found in actual, with the standard comparison strategy all values are looked for in a
+   * single pass over actual.
+   */
+  private Set<CharSequence> notFoundIn(CharSequence actual, CharSequence... values) {
+    Set<CharSequence> notFound = new LinkedHashSet<>();
+    if (canSearchAllValuesAtOnce(values)) {
+      int[] firstOccurrences = AhoCorasick.of(values).firstOccurrencesIn(actual);
+      for (int i = 0; i < values.length; i++) {
+        if (firstOccurrences[i] < 0) notFound.add(values[i]);
+      }
+      return notFound;
+    }
+    for (CharSequence value : values) {
+      if (!stringContains(actual, value)) notFound.add(value);
+    }
+    return notFound;
+  }
+
+  private boolean canSearchAllValuesAtOnce(CharSequence... values) {
+    if (values.length < 2 || !comparisonStrategy.isStandard()) return false;
+    for (CharSequence value : values) {
+      checkCharSequenceIsNotNull(value);
+    }
+    return true;
+  }
+
+  /**
+   * Delegates to {@link ComparisonStrategy#stringContains(String, String)}, the standard strategy searches actual
+   * without copying it.
    */
   private boolean stringContains(CharSequence actual, CharSequence sequence) {
+    if (comparisonStrategy.isStandard()) return indexOf(actual, sequence, 0) >= 0;
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  /**
+   * Same as {@link String#indexOf(String, int)} for any {@code CharSequence}s.
+   */
+  private static int indexOf(CharSequence actual, CharSequence sequence, int fromIndex) {
+    if (actual instanceof String && sequence instanceof String) {
+      return ((String) actual).indexOf((String) sequence, fromIndex);
+    }
+    int sequenceLength = sequence.length();
+    int lastIndex = actual.length() - sequenceLength;
+    if (fromIndex < 0) fromIndex = 0;
+    if (sequenceLength == 0) return Math.min(fromIndex, actual.length());
+    char first = sequence.charAt(0);
+    for (int i = fromIndex; i <= lastIndex; i++) {
+      if (actual.charAt(i) == first && regionMatches(actual, i, sequence)) return i;
+    }
+    return -1;
+  }
+
+  /**
+   * Returns true if actual contains the given sequence at the given offset.
+   */
+  private static boolean regionMatches(CharSequence actual, int offset, CharSequence sequence) {
+    if (offset < 0 || offset > actual.length() - sequence.length()) return false;
+    for (int i = 0, length = sequence.length(); i < length; i++) {
+      if (actual.charAt(offset + i) != sequence.charAt(i)) return false;
+    }
+    return true;
+  }
+
   /**
    * Verifies that the given {@code CharSequence} contains the given sequence, ignoring case considerations.
    * 
@@ -283,22 +379,35 @@ public class Strings {
   }
 
   /**
-   * Verifies that the given {@code CharSequence} does not contain the given sequence.
+   * Verifies that the given {@code CharSequence} does not contain any of the given values.
    * 
    * @param info contains information about the assertion.
    * @param actual the actual {@code CharSequence}.
-   * @param sequence the sequence to search for.
-   * @throws NullPointerException if the given sequence is {@code null}.
+   * @param values the values to search for.
+   * @throws NullPointerException if one of the given values is {@code null}.
+   * @throws IllegalArgumentException if the given values is empty.
    * @throws AssertionError if the given {@code CharSequence} is {@code null}.
-   * @throws AssertionError if the actual {@code CharSequence} contains the given sequence.
+   * @throws AssertionError if the actual {@code CharSequence} contains one of the given values.
    */
-  public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence sequence) {
-    checkCharSequenceIsNotNull(sequence);
+  public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
+    // a single null value is passed as a null array
+    if (values == null) checkCharSequenceIsNotNull(null);
+    checkIsNotEmpty(values);
+    for (CharSequence value : values) {
+      checkCharSequenceIsNotNull(value);
+    }
     assertNotNull(info, actual);
-    if (!stringContains(actual, sequence)) {
-      return;
+    if (values.length == 1) {
+      if (!stringContains(actual, values[0])) return;
+      throw failures.failure(info, shouldNotContain(actual, values[0], comparisonStrategy));
+    }
+    Set<CharSequence> notFound = notFoundIn(actual, values);
+    if (notFound.size() == values.length) return;
+    Set<CharSequence> found = new LinkedHashSet<>();
+    for (CharSequence value : values) {
+      if (!notFound.contains(value)) found.add(value);
     }
-    throw failures.failure(info, shouldNotContain(actual, sequence, comparisonStrategy));
+    throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
 
   private void checkCharSequenceIsNotNull(CharSequence sequence) {
@@ -326,7 +435,18 @@ public class Strings {
     if (actual == null) {
       return expected == null;
     }
-    return actual.toString().equalsIgnoreCase(expected.toString());
+    if (expected == null || actual.length() != expected.length()) return false;
+    // same char comparison as String.equalsIgnoreCase
+    for (int i = 0, length = actual.length(); i < length; i++) {
+      char actualChar = actual.charAt(i);
+      char expectedChar = expected.charAt(i);
+      if (actualChar == expectedChar) continue;
+      char actualUpperCase = Character.toUpperCase(actualChar);
+      char expectedUpperCase = Character.toUpperCase(expectedChar);
+      if (actualUpperCase == expectedUpperCase) continue;
+      if (Character.toLowerCase(actualUpperCase) != Character.toLowerCase(expectedUpperCase)) return false;
+    }
+    return true;
   }
 
   /**
@@ -358,8 +478,10 @@ public class Strings {
    * @return the number of occurrences of sequenceToSearch in actual {@link CharSequence}.
    */
   private int countOccurences(CharSequence sequenceToSearch, CharSequence actual) {
+    if (comparisonStrategy.isStandard()) return countStandardOccurences(sequenceToSearch, actual);
     String strToSearch = sequenceToSearch.toString();
     String strActual = actual.toString();
+    // a comparator can only compare whole strings
     int occurences = 0;
     for (int i = 0; i <= (strActual.length() - strToSearch.length()); i++) {
       if (comparisonStrategy.areEqual(strActual.substring(i, i + sequenceToSearch.length()), strToSearch)) {
@@ -369,6 +491,20 @@ public class Strings {
     return occurences;
   }
 
+  /**
+   * Count occurrences of toSearch in actual as {@link String#indexOf(String, int)} finds them, overlapping occurrences
+   * included.
+   */
+  private static int countStandardOccurences(CharSequence toSearch, CharSequence actual) {
+    // the empty string occurs before each char and at the end
+    if (toSearch.length() == 0) return actual.length() + 1;
+    int occurences = 0;
+    for (int i = indexOf(actual, toSearch, 0); i >= 0; i = indexOf(actual, toSearch, i + 1)) {
+      occurences++;
+    }
+    return occurences;
+  }
+
   /**
    * Verifies that the given {@code CharSequence} starts with the given prefix.
    * 
@@ -384,12 +520,21 @@ public class Strings {
       throw new NullPointerException("The given prefix should not be null");
     }
     assertNotNull(info, actual);
-    if (comparisonStrategy.stringStartsWith(actual.toString(), prefix.toString())) {
+    if (stringStartsWith(actual, prefix)) {
       return;
     }
     throw failures.failure(info, shouldStartWith(actual, prefix, comparisonStrategy));
   }
 
+  /**
+   * Delegates to {@link ComparisonStrategy#stringStartsWith(String, String)}, the standard strategy compares the prefix
+   * chars without copying actual.
+   */
+  private boolean stringStartsWith(CharSequence actual, CharSequence prefix) {
+    if (comparisonStrategy.isStandard()) return regionMatches(actual, 0, prefix);
+    return comparisonStrategy.stringStartsWith(actual.toString(), prefix.toString());
+  }
+
   /**
    * Verifies that the given {@code CharSequence} ends with the given suffix.
    * 
@@ -405,12 +550,21 @@ public class Strings {
       throw new NullPointerException("The given suffix should not be null");
     }
     assertNotNull(info, actual);
-    if (comparisonStrategy.stringEndsWith(actual.toString(), suffix.toString())) {
+    if (stringEndsWith(actual, suffix)) {
       return;
     }
     throw failures.failure(info, shouldEndWith(actual, suffix, comparisonStrategy));
   }
 
+  /**
+   * Delegates to {@link ComparisonStrategy#stringEndsWith(String, String)}, the standard strategy compares the suffix
+   * chars without copying actual.
+   */
+  private boolean stringEndsWith(CharSequence actual, CharSequence suffix) {
+    if (comparisonStrategy.isStandard()) return regionMatches(actual, actual.length() - suffix.length(), suffix);
+    return comparisonStrategy.stringEndsWith(actual.toString(), suffix.toString());
+  }
+
   /**
    * Verifies that the given {@code CharSequence} matches the given regular expression.
    * 
@@ -425,7 +579,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) {
+    if (PATTERNS.get(regex.toString()).matcher(actual).matches()) {
       return;
     }
     throw failures.failure(info, shouldMatch(actual, regex));
@@ -445,7 +599,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) {
+    if (!PATTERNS.get(regex.toString()).matcher(actual).matches()) {
       return;
     }
     throw failures.failure(info, shouldNotMatch(actual, regex));
@@ -512,20 +666,32 @@ public class Strings {
     checkIsNotNull(values);
     checkIsNotEmpty(values);
     checkCharSequenceIsNotNull(values[0]);
-    Set<CharSequence> notFound = new LinkedHashSet<>();
-    for (CharSequence value : values) {
-      if (!stringContains(actual, value))
-        notFound.add(value);
+    if (canSearchAllValuesAtOnce(values)) {
+      // one pass gives both the missing values and the position of the found ones
+      int[] firstOccurrences = AhoCorasick.of(values).firstOccurrencesIn(actual);
+      Set<CharSequence> notFound = new LinkedHashSet<>();
+      for (int i = 0; i < values.length; i++) {
+        if (firstOccurrences[i] < 0) notFound.add(values[i]);
+      }
+      if (notFound.isEmpty()) {
+        for (int i = 1; i < values.length; i++) {
+          if (firstOccurrences[i - 1] > firstOccurrences[i]) {
+            throw failures.failure(info, shouldContainSequence(actual, values, i - 1, comparisonStrategy));
+          }
+        }
+        return;
+      }
+      throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
     }
+    Set<CharSequence> notFound = notFoundIn(actual, values);
     if (notFound.isEmpty()) {
       if (values.length == 1) {
         // nothing to check, assertion succeeded.
         return;
       }
       // we have found all the given values but were they in the correct order ?
-      String strActual = actual.toString();
       for (int i = 1; i < values.length; i++) {
-        if (strActual.indexOf(values[i - 1].toString()) > strActual.indexOf(values[i].toString())) {
+        if (indexOf(actual, values[i - 1], 0) > indexOf(actual, values[i], 0)) {
           throw failures.failure(info, shouldContainSequence(actual, values, i - 1, comparisonStrategy));
         }
       }
@@ -551,4 +717,51 @@ public class Strings {
           info.representation()));
   }
 
+  /**
+   * Compiled patterns by regex, the least recently used pattern is evicted when the cache is full.
+   * <p>
+   * Regexes are compiled outside of the lock, two threads compiling the same regex at the same time is harmless.
+   */
+  private static class PatternCache {
+
+    private final Map<String, Pattern> patterns;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    PatternCache(final int maxSize) {
+      patterns = new LinkedHashMap<String, Pattern>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+          return size() > maxSize;
+        }
+      };
+    }
+
+    Pattern get(String regex) {
+      Pattern pattern;
+      synchronized (patterns) {
+        pattern = patterns.get(regex);
+      }
+      if (pattern != null) {
+        hitCount.incrementAndGet();
+        return pattern;
+      }
+      missCount.incrementAndGet();
+      pattern = Pattern.compile(regex);
+      synchronized (patterns) {
+        patterns.put(regex, pattern);
+      }
+      return pattern;
+    }
+
+    void clear() {
+      synchronized (patterns) {
+        patterns.clear();
+      }
+      hitCount.set(0);
+      missCount.set(0);
+    }
+  }
 }
@@ -20,13 +20,10 @@ import static org.assertj.core.util.Strings.append;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -250,10 +247,7 @@ public class Files {
    * @throws FilesException if an I/O exception occurs.
    */
   public static String contentOf(File file, String charsetName) {
-    if (!Charset.isSupported(charsetName)) {
-      throw new IllegalArgumentException(String.format("Charset:<'%s'> is not supported on this system", charsetName));
-    }
-    return contentOf(file, Charset.forName(charsetName));
+    return contentOf(file, charsetFor(charsetName));
   }
 
   /**
@@ -266,41 +260,51 @@ public class Files {
    * @throws FilesException if an I/O exception occurs.
    */
   public static String contentOf(File file, Charset charset) {
-    if (charset == null) {
-      throw new NullPointerException("The charset should not be null");
-    }
+    checkCharsetIsNotNull(charset);
     try {
-      return loadContents(file, charset);
+      return loadContents(file.toPath(), charset);
     } catch (IOException e) {
       throw new FilesException("Unable to read " + file.getAbsolutePath(), e);
     }
   }
 
-  private static String loadContents(File file, Charset charset) throws IOException {
-    BufferedReader reader = null;
-    boolean threw = true;
+  /**
+   * Loads the text content of a file into a character string.
+   * 
+   * @param path the path of the file.
+   * @param charsetName the name of the character set to use.
+   * @return the content of the file.
+   * @throws IllegalArgumentException if the given character set is not supported on this platform.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static String contentOf(Path path, String charsetName) {
+    return contentOf(path, charsetFor(charsetName));
+  }
+
+  /**
+   * Loads the text content of a file into a character string.
+   * 
+   * @param path the path of the file.
+   * @param charset the character set to use.
+   * @return the content of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static String contentOf(Path path, Charset charset) {
+    checkCharsetIsNotNull(charset);
     try {
-      reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), charset));
-      StringWriter writer = new StringWriter();
-      int c;
-      while ((c = reader.read()) != -1) {
-        writer.write(c);
-      }
-      threw = false;
-      return writer.toString();
-    } finally {
-      if (reader != null) {
-        try {
-          reader.close();
-        } catch (IOException e) {
-          if (!threw) {
-            throw e; // if there was an initial exception, don't hide it
-          }
-        }
-      }
+      return loadContents(path, charset);
+    } catch (IOException e) {
+      throw new FilesException("Unable to read " + path.toAbsolutePath(), e);
     }
   }
 
+  private static String loadContents(Path path, Charset charset) throws IOException {
+    // bytes are read in one go in an array sized from the file length and decoded at once, as InputStreamReader does
+    // malformed input is replaced
+    return new String(java.nio.file.Files.readAllBytes(path), charset);
+  }
+
   /**
    * Loads the text content of a file into a list of strings, each string corresponding to a line. The line endings are
    * either \n, \r or \r\n.
@@ -312,11 +316,9 @@ public class Files {
    * @throws FilesException if an I/O exception occurs.
    */
   public static List<String> linesOf(File file, Charset charset) {
-    if (charset == null) {
-      throw new NullPointerException("The charset should not be null");
-    }
+    checkCharsetIsNotNull(charset);
     try {
-      return loadLines(file, charset);
+      return linesIn(loadContents(file.toPath(), charset));
     } catch (IOException e) {
       throw new FilesException("Unable to read " + file.getAbsolutePath(), e);
     }
@@ -333,40 +335,72 @@ public class Files {
    * @throws FilesException if an I/O exception occurs.
    */
   public static List<String> linesOf(File file, String charsetName) {
-    if (!Charset.isSupported(charsetName)) {
-      throw new IllegalArgumentException(String.format("Charset:<'%s'> is not supported on this system", charsetName));
-    }
-    return linesOf(file, Charset.forName(charsetName));
+    return linesOf(file, charsetFor(charsetName));
   }
 
-  private static List<String> loadLines(File file, Charset charset) throws IOException {
-    BufferedReader reader = null;
-    boolean threw = true;
+  /**
+   * Loads the text content of a file into a list of strings, each string corresponding to a line. The line endings are
+   * either \n, \r or \r\n.
+   * 
+   * @param path the path of the file.
+   * @param charset the character set to use.
+   * @return the content of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static List<String> linesOf(Path path, Charset charset) {
+    checkCharsetIsNotNull(charset);
     try {
-      reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), charset));
+      return linesIn(loadContents(path, charset));
+    } catch (IOException e) {
+      throw new FilesException("Unable to read " + path.toAbsolutePath(), e);
+    }
+  }
 
-      List<String> strings = Lists.newArrayList();
+  /**
+   * Loads the text content of a file into a list of strings, each string corresponding to a line. The line endings are
+   * either \n, \r or \r\n.
+   * 
+   * @param path the path of the file.
+   * @param charsetName the name of the character set to use.
+   * @return the content of the file.
+   * @throws NullPointerException if the given charset is {@code null}.
+   * @throws FilesException if an I/O exception occurs.
+   */
+  public static List<String> linesOf(Path path, String charsetName) {
+    return linesOf(path, charsetFor(charsetName));
+  }
 
-      String line = reader.readLine();
-      while (line != null) {
-        strings.add(line);
-        line = reader.readLine();
-      }
+  /**
+   * Splits the given text into lines like {@link java.io.BufferedReader#readLine()} does: the line terminators are not
+   * part of the lines and a terminator at the end of the text does not start a new empty line.
+   */
+  private static List<String> linesIn(String content) {
+    List<String> lines = new ArrayList<>();
+    int lineStart = 0;
+    int length = content.length();
+    for (int i = 0; i < length; i++) {
+      char c = content.charAt(i);
+      if (c != '\n' && c != '\r') continue;
+      lines.add(content.substring(lineStart, i));
+      if (c == '\r' && i + 1 < length && content.charAt(i + 1) == '\n') i++;
+      lineStart = i + 1;
+    }
+    if (lineStart < length) lines.add(content.substring(lineStart));
+    return lines;
+  }
 
-      threw = false;
-      return strings;
-    } finally {
-      if (reader != null) {
-        try {
-          reader.close();
-        } catch (IOException e) {
-          if (!threw) {
-            throw e; // if there was an initial exception, don't hide it
-          }
-        }
-      }
+  private static Charset charsetFor(String charsetName) {
+    if (!Charset.isSupported(charsetName)) {
+      throw new IllegalArgumentException(String.format("Charset:<'%s'> is not supported on this system", charsetName));
     }
+    return Charset.forName(charsetName);
+  }
 
+  private static void checkCharsetIsNotNull(Charset charset) {
+    if (charset == null) {
+      throw new NullPointerException("The charset should not be null");
+    }
   }
 
   private Files() {
@@ -83,27 +83,31 @@ public final class Throwables {
    * @param throwable the {@code Throwable} to filter stack trace.
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int filteredLength = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
+    for (StackTraceElement element : stackTrace) {
       if (element.getClassName().contains("org.assert")) {
-        filtered.remove(element);
         // Handle the case when AssertJ builds a ComparisonFailure by reflection (see ShouldBeEqual.newAssertionError
         // method), the stack trace looks like:
         //
         // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
-        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
+        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ, it is
+        // the last kept element since it is not an AssertJ element.
         if (previous != null && previous.getClassName().equals("java.lang.reflect.Constructor")
             && element.getClassName().contains("org.assertj.core.error.ConstructorInvoker")) {
-          filtered.remove(previous);
+          filteredLength--;
         }
+      } else {
+        filtered[filteredLength++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[filtered.size()]);
-    throwable.setStackTrace(newStackTrace);
+    if (filteredLength == stackTrace.length) return;
+    throwable.setStackTrace(java.util.Arrays.copyOf(filtered, filteredLength));
   }
 
   /**
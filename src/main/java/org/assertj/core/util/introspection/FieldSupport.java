@@ -22,6 +22,8 @@ import static org.assertj.core.util.Iterables.isNullOrEmpty;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Utility methods for fields access.
@@ -35,6 +37,11 @@ public enum FieldSupport {
 
   private static final String SEPARATOR = ".";
 
+  private static final int FIELD_PATHS_MAX_SIZE = 1024;
+
+  // nested field names split into simple field names
+  private static final ConcurrentMap<String, String[]> FIELD_PATHS = new ConcurrentHashMap<>();
+
   private boolean allowUsingPrivateFields;
 
   /**
@@ -94,13 +101,14 @@ public enum FieldSupport {
   public <T> List<T> fieldValues(String fieldName, Class<T> fieldClass, Iterable<?> target) {
 	if (isNullOrEmpty(target)) return emptyList();
 
-	if (isNestedField(fieldName)) {
-	  String firstFieldName = popFieldNameFrom(fieldName);
-	  Iterable<Object> fieldValues = fieldValues(firstFieldName, Object.class, target);
-	  // extract next sub-field values until reaching the last sub-field
-	  return fieldValues(nextFieldNameFrom(fieldName), fieldClass, fieldValues);
+	String[] fieldPath = fieldPathOf(fieldName);
+	Iterable<?> fieldValues = target;
+	int last = fieldPath.length - 1;
+	// extract sub-field values until reaching the last sub-field
+	for (int i = 0; i < last; i++) {
+	  fieldValues = simpleFieldValues(fieldPath[i], Object.class, fieldValues);
 	}
-	return simpleFieldValues(fieldName, fieldClass, target);
+	return simpleFieldValues(fieldPath[last], fieldClass, fieldValues);
   }
 
   public List<Object> fieldValues(String fieldName, Iterable<?> target) {
@@ -132,6 +140,26 @@ public enum FieldSupport {
 	return unmodifiableList(fieldValues);
   }
 
+  /**
+   * Returns the simple field names of the given field name, the result is cached as the same nested fields are usually
+   * read from many objects.
+   */
+  private String[] fieldPathOf(String fieldName) {
+	String[] fieldPath = FIELD_PATHS.get(fieldName);
+	if (fieldPath != null) return fieldPath;
+	List<String> fieldNames = new ArrayList<>();
+	String remainingFieldNames = fieldName;
+	while (isNestedField(remainingFieldNames)) {
+	  fieldNames.add(popFieldNameFrom(remainingFieldNames));
+	  remainingFieldNames = nextFieldNameFrom(remainingFieldNames);
+	}
+	fieldNames.add(remainingFieldNames);
+	fieldPath = fieldNames.toArray(new String[fieldNames.size()]);
+	if (FIELD_PATHS.size() >= FIELD_PATHS_MAX_SIZE) FIELD_PATHS.clear();
+	FIELD_PATHS.put(fieldName, fieldPath);
+	return fieldPath;
+  }
+
   private String popFieldNameFrom(String fieldNameChain) {
 	if (!isNestedField(fieldNameChain)) {
 	  return fieldNameChain;
@@ -182,13 +210,15 @@ public enum FieldSupport {
   public <T> T fieldValue(String fieldName, Class<T> fieldClass, Object target) {
 	if (target == null) return null;
 
-	if (isNestedField(fieldName)) {
-	  String outerFieldName = popFieldNameFrom(fieldName);
-	  Object outerFieldValue = readSimpleField(outerFieldName, Object.class, target);
-	  // extract next sub-field values until reaching the last sub-field
-	  return fieldValue(nextFieldNameFrom(fieldName), fieldClass, outerFieldValue);
+	String[] fieldPath = fieldPathOf(fieldName);
+	Object fieldValue = target;
+	int last = fieldPath.length - 1;
+	// extract sub-field values until reaching the last sub-field
+	for (int i = 0; i < last; i++) {
+	  fieldValue = readSimpleField(fieldPath[i], Object.class, fieldValue);
+	  if (fieldValue == null) return null;
 	}
-	return readSimpleField(fieldName, fieldClass, target);
+	return readSimpleField(fieldPath[last], fieldClass, fieldValue);
   }
 
   private <T> T readSimpleField(String fieldName, Class<T> clazz, Object target) {
@@ -26,6 +26,8 @@ package org.assertj.core.util.introspection;
  */
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -42,6 +44,9 @@ import java.lang.reflect.Modifier;
  */
 public class FieldUtils {
 
+  // resolved fields (or lookup failures) by class and field name, it does not keep classes from being unloaded
+  private static volatile FieldLookupsCache fieldLookupsCache = new FieldLookupsCache();
+
   /**
    * FieldUtils instances should NOT be constructed in standard programming.
    * <p>
@@ -54,6 +59,8 @@ public class FieldUtils {
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
+   * <p>
+   * Lookups are cached per class, field name and access, failed lookups included.
    * 
    * @param cls the class to reflect, must not be null
    * @param fieldName the field name to obtain
@@ -70,6 +77,18 @@ public class FieldUtils {
     if (fieldName == null) {
       throw new IllegalArgumentException("The field name must not be null");
     }
+    return fieldLookupsCache.get(cls).lookup(fieldName, forceAccess).field();
+  }
+
+  /**
+   * Clears the cache of looked up fields.
+   */
+  static void clearCache() {
+    fieldLookupsCache = new FieldLookupsCache();
+  }
+
+  private static Field findField(final Class<?> cls, String fieldName, boolean forceAccess)
+      throws IllegalAccessException {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -178,4 +197,64 @@ public class FieldUtils {
     return readField(field, target);
   }
 
+  private static class FieldLookupsCache extends ClassValue<FieldLookups> {
+    @Override
+    protected FieldLookups computeValue(Class<?> type) {
+      return new FieldLookups(type);
+    }
+  }
+
+  private static class FieldLookups {
+    private final Class<?> type;
+    private final ConcurrentMap<String, FieldLookup> forcedAccessLookups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FieldLookup> publicAccessLookups = new ConcurrentHashMap<>();
+
+    FieldLookups(Class<?> type) {
+      this.type = type;
+    }
+
+    FieldLookup lookup(String fieldName, boolean forceAccess) {
+      ConcurrentMap<String, FieldLookup> lookups = forceAccess ? forcedAccessLookups : publicAccessLookups;
+      FieldLookup lookup = lookups.get(fieldName);
+      if (lookup == null) {
+        lookup = FieldLookup.of(type, fieldName, forceAccess);
+        FieldLookup concurrentLookup = lookups.putIfAbsent(fieldName, lookup);
+        if (concurrentLookup != null) lookup = concurrentLookup;
+      }
+      return lookup;
+    }
+  }
+
+  /**
+   * The result of a field lookup: the found field (null if none) or the message of the exception to throw.
+   */
+  private static class FieldLookup {
+    private final Field field;
+    private final String illegalAccessMessage;
+    private final String illegalArgumentMessage;
+
+    private FieldLookup(Field field, String illegalAccessMessage, String illegalArgumentMessage) {
+      this.field = field;
+      this.illegalAccessMessage = illegalAccessMessage;
+      this.illegalArgumentMessage = illegalArgumentMessage;
+    }
+
+    static FieldLookup of(Class<?> type, String fieldName, boolean forceAccess) {
+      try {
+        return new FieldLookup(findField(type, fieldName, forceAccess), null, null);
+      } catch (IllegalAccessException e) {
+        return new FieldLookup(null, e.getMessage(), null);
+      } catch (IllegalArgumentException e) {
+        return new FieldLookup(null, null, e.getMessage());
+      }
+    }
+
+    Field field() throws IllegalAccessException {
+      // new exceptions are thrown to have the caller stack trace
+      if (illegalAccessMessage != null) throw new IllegalAccessException(illegalAccessMessage);
+      if (illegalArgumentMessage != null) throw new IllegalArgumentException(illegalArgumentMessage);
+      return field;
+    }
+  }
+
 }
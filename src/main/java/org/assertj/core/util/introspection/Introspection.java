@@ -19,16 +19,38 @@ import static org.assertj.core.util.Preconditions.*;
 import static org.assertj.core.util.Strings.quote;
 
 import java.beans.*;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility methods related to <a
  * href="http://java.sun.com/docs/books/tutorial/javabeans/introspection/index.html">JavaBeans Introspection</a>.
+ * <p>
+ * The properties of a class are introspected once and cached along with their read method handles, the cache is keyed
+ * by class without preventing classes (and their class loaders) from being garbage collected. When more than
+ * {@link #setCacheMaxSize(int) cacheMaxSize} classes have been introspected, the cache is cleared.
  * 
  * @author Alex Ruiz
  */
 public final class Introspection {
+
+  /**
+   * The default maximum number of classes whose properties are cached.
+   */
+  public static final int DEFAULT_CACHE_MAX_SIZE = 1024;
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static volatile int cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+  private static volatile BeanPropertiesCache cache = new BeanPropertiesCache();
+
   /**
    * Returns a {@link PropertyDescriptor} for a property matching the given name in the given object.
    * 
@@ -43,19 +65,72 @@ public final class Introspection {
   public static PropertyDescriptor getProperty(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     checkNotNull(target);
-    BeanInfo beanInfo = null;
-    Class<?> type = target.getClass();
-    try {
-      beanInfo = Introspector.getBeanInfo(type);
-    } catch (Throwable t) {
-      throw new IntrospectionError(format("Unable to get BeanInfo for type %s", type.getName()), t);
+    return beanPropertiesOf(target.getClass()).property(propertyName, target).descriptor;
+  }
+
+  /**
+   * Returns a {@link MethodHandle} of type {@code (Object)Object} invoking the read method of the given property, the
+   * handle is cached when the given {@link PropertyDescriptor} comes from {@link #getProperty(String, Object)}.
+   * 
+   * @param descriptor the property to get the read method of.
+   * @param target the object the read method will be invoked on.
+   * @return a {@link MethodHandle} invoking the read method of the given property.
+   * @throws NullPointerException if the given descriptor is {@code null}.
+   * @throws NullPointerException if the given object is {@code null}.
+   * @throws IntrospectionError if the property has no read method or if it cannot be accessed.
+   */
+  public static MethodHandle getReadMethodHandle(PropertyDescriptor descriptor, Object target) {
+    checkNotNull(descriptor);
+    checkNotNull(target);
+    BeanProperty property = beanPropertiesOf(target.getClass()).properties.get(descriptor.getName());
+    if (property != null && property.descriptor == descriptor) return property.readMethodHandle();
+    return readMethodHandleOf(descriptor);
+  }
+
+  /**
+   * Clears the cache of introspected properties and the cache of fields looked up by {@link FieldSupport}.
+   */
+  public static void clearCache() {
+    cache = new BeanPropertiesCache();
+    FieldUtils.clearCache();
+  }
+
+  /**
+   * Sets the maximum number of classes whose properties are cached, the cache is cleared when it goes beyond that
+   * size. The default is {@value #DEFAULT_CACHE_MAX_SIZE}, 0 disables caching.
+   * 
+   * @param maxSize the maximum number of classes whose properties are cached.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public static void setCacheMaxSize(int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException(format("The cache max size should be positive or zero but was %s", maxSize));
     }
-    for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
-      if (propertyName.equals(descriptor.getName())) {
-        return descriptor;
-      }
+    cacheMaxSize = maxSize;
+    clearCache();
+  }
+
+  private static BeanProperties beanPropertiesOf(Class<?> type) {
+    if (cacheMaxSize == 0) return new BeanProperties(type);
+    BeanPropertiesCache current = cache;
+    BeanProperties beanProperties = current.get(type);
+    // the cache has been filled beyond its max size, start a new one; concurrent callers may keep using the old one
+    if (current.size.get() > cacheMaxSize && cache == current) cache = new BeanPropertiesCache();
+    return beanProperties;
+  }
+
+  private static MethodHandle readMethodHandleOf(PropertyDescriptor descriptor) {
+    Method readMethod = descriptor.getReadMethod();
+    if (readMethod == null) {
+      throw new IntrospectionError(format("No read method for property %s", quote(descriptor.getName())));
+    }
+    try {
+      readMethod.setAccessible(true);
+      return MethodHandles.lookup().unreflect(readMethod).asType(GETTER_TYPE);
+    } catch (Exception e) {
+      throw new IntrospectionError(format("Unable to access read method of property %s",
+                                          quote(descriptor.getName())), e);
     }
-    throw new IntrospectionError(propertyNotFoundErrorMessage(propertyName, target));
   }
 
   private static String propertyNotFoundErrorMessage(String propertyName, Object target) {
@@ -91,5 +166,62 @@ public final class Introspection {
     }
   }
 
+  private static class BeanPropertiesCache extends ClassValue<BeanProperties> {
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Override
+    protected BeanProperties computeValue(Class<?> type) {
+      BeanProperties beanProperties = new BeanProperties(type);
+      size.incrementAndGet();
+      return beanProperties;
+    }
+  }
+
+  /**
+   * The properties of a class, missing properties are cached with their error message.
+   */
+  private static class BeanProperties {
+    private final Map<String, BeanProperty> properties = new HashMap<>();
+    private final ConcurrentMap<String, String> missingPropertyErrorMessages = new ConcurrentHashMap<>();
+
+    BeanProperties(Class<?> type) {
+      BeanInfo beanInfo = null;
+      try {
+        beanInfo = Introspector.getBeanInfo(type);
+      } catch (Throwable t) {
+        throw new IntrospectionError(format("Unable to get BeanInfo for type %s", type.getName()), t);
+      }
+      for (PropertyDescriptor descriptor : beanInfo.getPropertyDescriptors()) {
+        properties.put(descriptor.getName(), new BeanProperty(descriptor));
+      }
+    }
+
+    BeanProperty property(String propertyName, Object target) {
+      BeanProperty property = properties.get(propertyName);
+      if (property != null) return property;
+      String errorMessage = missingPropertyErrorMessages.get(propertyName);
+      if (errorMessage == null) {
+        errorMessage = propertyNotFoundErrorMessage(propertyName, target);
+        missingPropertyErrorMessages.putIfAbsent(propertyName, errorMessage);
+      }
+      throw new IntrospectionError(errorMessage);
+    }
+  }
+
+  private static class BeanProperty {
+    private final PropertyDescriptor descriptor;
+    private volatile MethodHandle readMethodHandle;
+
+    BeanProperty(PropertyDescriptor descriptor) {
+      this.descriptor = descriptor;
+    }
+
+    MethodHandle readMethodHandle() {
+      // racy but idempotent initialization
+      if (readMethodHandle == null) readMethodHandle = readMethodHandleOf(descriptor);
+      return readMethodHandle;
+    }
+  }
+
   private Introspection() {}
 }
@@ -0,0 +1,141 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.internal.ParallelChecks;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Checks that assertions running in parallel report the same errors as when running sequentially.
+ */
+public class Assertions_setParallelThreshold_Test {
+
+  private static final Condition<Integer> EVEN = new Condition<Integer>("even") {
+    @Override
+    public boolean matches(Integer value) {
+      return value % 2 == 0;
+    }
+  };
+
+  private final List<Integer> actual = integers(0, 1000);
+  private final Integer[] actualArray = actual.toArray(new Integer[0]);
+
+  @After
+  public void disableParallelChecks() {
+    Assertions.setParallelThreshold(ParallelChecks.DISABLED);
+  }
+
+  @Test
+  public void should_pass_in_parallel() {
+    Assertions.setParallelThreshold(2);
+    List<Integer> even = new ArrayList<>();
+    for (int i = 0; i < 1000; i += 2) {
+      even.add(i);
+    }
+    assertThat(actual).containsOnly(actualArray).contains(500, 0).containsAll(actual).doesNotHaveDuplicates()
+                      .containsExactly(actualArray);
+    assertThat(actualArray).containsOnly(actualArray).contains(500, 0).containsAll(actual).doesNotHaveDuplicates();
+    assertThat(even).are(EVEN).have(EVEN).areAtLeast(500, EVEN);
+    assertThat(even.toArray(new Integer[0])).are(EVEN).haveExactly(500, EVEN);
+  }
+
+  @Test
+  public void should_report_same_errors_as_sequential_checks() {
+    final List<Integer> withDuplicates = integers(0, 1000);
+    withDuplicates.addAll(integers(990, 1005));
+    final Integer[] expected = integers(5, 1010).toArray(new Integer[0]);
+    assertThat(messagesOf(withDuplicates, expected, 2)).isEqualTo(messagesOf(withDuplicates, expected,
+                                                                              ParallelChecks.DISABLED));
+  }
+
+  private static List<String> messagesOf(final List<Integer> actual, final Integer[] expected, int threshold) {
+    Assertions.setParallelThreshold(threshold);
+    final Integer[] actualArray = actual.toArray(new Integer[0]);
+    final List<Integer> values = java.util.Arrays.asList(expected);
+    List<String> messages = new ArrayList<>();
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actual).containsOnly(expected);
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actualArray).containsOnly(expected);
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actual).containsAll(values);
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actualArray).contains(expected);
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actual).doesNotHaveDuplicates();
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actualArray).doesNotHaveDuplicates();
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actual).are(EVEN);
+      }
+    }));
+    messages.add(message(new Runnable() {
+      @Override
+      public void run() {
+        assertThat(actualArray).doNotHave(EVEN);
+      }
+    }));
+    return messages;
+  }
+
+  private static String message(Runnable assertion) {
+    try {
+      assertion.run();
+    } catch (AssertionError e) {
+      return e.getMessage();
+    }
+    fail("AssertionError expected");
+    return null;
+  }
+
+  private static List<Integer> integers(int from, int to) {
+    List<Integer> integers = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+}
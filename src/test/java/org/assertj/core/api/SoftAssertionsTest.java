@@ -496,6 +496,20 @@ public class SoftAssertionsTest {
     }
   }
 
+  @Test
+  public void should_reuse_proxy_classes_and_keep_errors_of_each_soft_assertions_apart() {
+    SoftAssertions otherSoftly = new SoftAssertions();
+    StringAssert proxy = softly.assertThat("foo");
+    StringAssert otherProxy = otherSoftly.assertThat("bar");
+    assertThat(otherProxy.getClass()).isSameAs(proxy.getClass());
+
+    proxy.isEqualTo("bar");
+    otherProxy.isEqualTo("bar");
+
+    assertThat(softly.proxies.errorsCollected()).hasSize(1);
+    assertThat(otherSoftly.proxies.errorsCollected()).isEmpty();
+  }
+
   private static Name name(String first, String last) {
     return new Name(first, last);
   }
@@ -14,9 +14,13 @@ package org.assertj.core.error;
 
 import static junit.framework.Assert.assertEquals;
 import static org.assertj.core.error.ShouldBeSorted.shouldBeSorted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeStrictlySorted;
 import static org.assertj.core.util.Arrays.array;
 import static org.junit.rules.ExpectedException.none;
 
+import java.util.Arrays;
+import java.util.Iterator;
+
 import org.assertj.core.internal.TestDescription;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.Before;
@@ -48,6 +52,30 @@ public class ShouldBeSorted_create_Test {
         message);
   }
 
+  @Test
+  public void should_create_error_message_for_strictly_sorted_group() {
+    factory = shouldBeStrictlySorted(1, array("b", "c", "c"));
+    String message = factory.create(new TestDescription("Test"), new StandardRepresentation());
+    assertEquals(
+        "[Test] \ngroup is not strictly sorted because element 1:\n <\"c\">\nis not less than element 2:\n <\"c\">\ngroup was:\n <[\"b\", \"c\", \"c\"]>",
+        message);
+  }
+
+  @Test
+  public void should_create_error_message_for_iterable_group() {
+    Iterable<String> iterable = new Iterable<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return Arrays.asList("b", "c", "a").iterator();
+      }
+    };
+    factory = shouldBeSorted(1, iterable);
+    String message = factory.create(new TestDescription("Test"), new StandardRepresentation());
+    assertEquals(
+        "[Test] \ngroup is not sorted because element 1:\n <\"c\">\nis not less or equal than element 2:\n <\"a\">\ngroup was:\n <[\"b\", \"c\", \"a\"]>",
+        message);
+  }
+
   @Test
   public void should_fail_if_object_parameter_is_not_an_array() {
     thrown.expect(IllegalArgumentException.class);
@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveSameDigest;
+
+import java.io.ByteArrayInputStream;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveDigest#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveDigest_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ByteArrayInputStream actual = new ByteArrayInputStream(new byte[0]) {
+      @Override
+      public String toString() {
+        return "stream";
+      }
+    };
+    DigestDiff diff = new DigestDiff("MD5", new byte[] { 0x0a, (byte) 0xff }, new byte[] { 0x01, 0x23 });
+    ErrorMessageFactory factory = shouldHaveDigest(actual, diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nExpecting InputStream:\n <stream>\nMD5 digest to be:\n <0AFF>\nbut was:\n <0123>");
+  }
+
+  @Test
+  public void should_create_error_message_for_files_with_same_digest() {
+    DigestDiff diff = new DigestDiff("SHA-1", new byte[] { 0x0a }, new byte[] { 0x0b });
+    ErrorMessageFactory factory = shouldHaveSameDigest(new FakeFile("actual"), new FakeFile("golden"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nExpecting File:\n <actual>\nto have the same SHA-1 digest as:\n <golden>\n"
+                                  + "expected digest:\n <0A>\nbut was:\n <0B>");
+  }
+}
@@ -18,6 +18,8 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.SystemProperties.LINE_SEPARATOR;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.assertj.core.description.TextDescription;
@@ -53,6 +55,16 @@ public class ShouldHaveEqualContent_create_Test {
 	assertThat(factory.create(new TextDescription("Test"), new StandardRepresentation())).isEqualTo(b.toString());
   }
 
+  @Test
+  public void should_create_same_error_message_for_paths_as_for_files() {
+	Path actual = new File("abc").toPath();
+	Path expected = new File("xyz").toPath();
+	ErrorMessageFactory pathFactory = shouldHaveEqualContent(actual, expected, diffs);
+	ErrorMessageFactory fileFactory = shouldHaveEqualContent(actual.toFile(), expected.toFile(), diffs);
+	assertThat(pathFactory.create(new TextDescription("Test"), new StandardRepresentation()))
+	  .isEqualTo(fileFactory.create(new TextDescription("Test"), new StandardRepresentation()));
+  }
+
   @Test
   public void should_create_error_message_inputstream_even_if_content_contains_format_specifier() {
 	ErrorMessageFactory factory = shouldHaveEqualContent(new ByteArrayInputStream(new byte[] { 'a' }),
@@ -0,0 +1,60 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link ShouldHaveSameContent#create(org.assertj.core.description.Description, org.assertj.core.presentation.Representation)}</code>
+ * .
+ */
+public class ShouldHaveSameContent_create_Test {
+
+  @Test
+  public void should_create_error_message() {
+    ErrorMessageFactory factory = shouldHaveSameContent(stream("actual"), stream("expected"),
+                                                        new BinaryDiffResult(15, 0xCA, 0xFE));
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nInputStream:\n <actual>\ndoes not have same content as:\n <expected>\n"
+                                  + "at offset <15>, expecting:\n <\"0xCA\">\nbut was:\n <\"0xFE\">");
+  }
+
+  @Test
+  public void should_create_error_message_with_bytes_around_the_diff() {
+    BinaryDiffResult diff = new BinaryDiffResult(15, 0xCA, -1, 13, "00 01 CA", "00 01");
+    ErrorMessageFactory factory = shouldHaveSameContent(stream("actual"), stream("expected"), diff);
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertThat(message).isEqualTo("[Test] \nInputStream:\n <actual>\ndoes not have same content as:\n <expected>\n"
+                                  + "at offset <15>, expecting:\n <\"0xCA\">\nbut was:\n <\"EOF\">\n"
+                                  + "bytes from offset <13>, expecting:\n <00 01 CA>\nbut was:\n <00 01>");
+  }
+
+  private static InputStream stream(final String description) {
+    return new ByteArrayInputStream(new byte[0]) {
+      @Override
+      public String toString() {
+        return description;
+      }
+    };
+  }
+}
@@ -15,6 +15,8 @@ package org.assertj.core.error;
 import static junit.framework.Assert.assertEquals;
 
 import static org.assertj.core.error.ShouldNotContainCharSequence.shouldNotContain;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
@@ -47,4 +49,14 @@ public class ShouldNotContainString_create_Test {
     assertEquals("[Test] \nExpecting:\n <\"Yoda\">\nnot to contain:\n <\"od\"> when comparing values using 'CaseInsensitiveStringComparator'",
         message);
   }
+
+  @Test
+  public void should_create_error_message_with_several_values() {
+    ErrorMessageFactory factory = shouldNotContain("Yoda", array("Lu", "od", "da"), newLinkedHashSet("od", "da"),
+                                                   new ComparatorBasedComparisonStrategy(
+                                                       CaseInsensitiveStringComparator.instance));
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    assertEquals("[Test] \nExpecting:\n <\"Yoda\">\nnot to contain:\n <[\"Lu\", \"od\", \"da\"]>\nbut found:\n <[\"od\", \"da\"]>\n when comparing values using 'CaseInsensitiveStringComparator'",
+                 message);
+  }
 }
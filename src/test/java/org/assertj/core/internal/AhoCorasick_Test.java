@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class AhoCorasick_Test {
+
+  @Test
+  public void should_find_first_occurrence_of_each_value() {
+    int[] firstOccurrences = AhoCorasick.of("he", "she", "his", "hers", "x").firstOccurrencesIn("ushers and his");
+    assertThat(firstOccurrences).containsExactly(2, 1, 11, 2, -1);
+  }
+
+  @Test
+  public void should_find_values_that_are_suffixes_of_other_values() {
+    assertThat(AhoCorasick.of("abcd", "bcd", "cd", "d").firstOccurrencesIn("xabcdx")).containsExactly(1, 2, 3, 4);
+    assertThat(AhoCorasick.of("aab", "ab", "b").firstOccurrencesIn("aaab")).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void should_find_empty_and_duplicate_values() {
+    assertThat(AhoCorasick.of("", "a", "a").firstOccurrencesIn("ba")).containsExactly(0, 1, 1);
+    assertThat(AhoCorasick.of("", "a").firstOccurrencesIn("")).containsExactly(0, -1);
+  }
+
+  @Test
+  public void should_search_char_sequences() {
+    assertThat(AhoCorasick.of(new StringBuilder("ob"), "Frodo").firstOccurrencesIn(new StringBuilder("Frodo Baggins")))
+      .containsExactly(-1, 0);
+  }
+
+  @Test
+  public void should_reuse_automaton_built_for_same_values() {
+    assertThat(AhoCorasick.of("Luke", "Yoda")).isSameAs(AhoCorasick.of(new StringBuilder("Luke"), "Yoda"));
+    assertThat(AhoCorasick.of("Luke", "Yoda")).isNotSameAs(AhoCorasick.of("Yoda", "Luke"));
+  }
+
+  @Test
+  public void should_find_same_occurrences_as_indexOf() {
+    Random random = new Random(42);
+    for (int run = 0; run < 200; run++) {
+      String text = randomString(random, random.nextInt(60));
+      String[] values = new String[1 + random.nextInt(8)];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = randomString(random, random.nextInt(5));
+      }
+      int[] firstOccurrences = AhoCorasick.of(values).firstOccurrencesIn(text);
+      for (int i = 0; i < values.length; i++) {
+        assertThat(firstOccurrences[i]).as("%s in %s", values[i], text).isEqualTo(text.indexOf(values[i]));
+      }
+    }
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.junit.Assert.*;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ElementMultiset#count(Object)} and {@link ElementMultiset#contains(Object)}.
+ */
+public class ElementMultiset_count_Test {
+
+  private List<?> elements = newArrayList("Luke", "Yoda", null, "Luke", "LUKE", null, new int[] { 1, 2 });
+
+  @Test
+  public void should_count_elements_with_standard_comparison_strategy() {
+    ElementMultiset multiset = ElementMultiset.of(elements, StandardComparisonStrategy.instance());
+    assertEquals(2, multiset.count("Luke"));
+    assertEquals(1, multiset.count("LUKE"));
+    assertEquals(1, multiset.count("Yoda"));
+    assertEquals(2, multiset.count(null));
+    assertEquals(0, multiset.count("Leia"));
+    assertFalse(multiset.contains("Leia"));
+  }
+
+  @Test
+  public void should_count_arrays_by_content_with_standard_comparison_strategy() {
+    ElementMultiset multiset = ElementMultiset.of(elements, StandardComparisonStrategy.instance());
+    assertTrue(multiset.contains(new int[] { 1, 2 }));
+    assertTrue(multiset.contains(new Integer[] { 1, 2 }));
+    assertFalse(multiset.contains(new int[] { 2, 1 }));
+  }
+
+  @Test
+  public void should_count_elements_with_comparator_based_comparison_strategy() {
+    List<?> names = newArrayList("Luke", "Yoda", null, "luke", "LUKE", null);
+    ElementMultiset multiset = ElementMultiset.of(names, new ComparatorBasedComparisonStrategy(
+        CaseInsensitiveStringComparator.instance));
+    assertEquals(3, multiset.count("Luke"));
+    assertEquals(1, multiset.count("YODA"));
+    assertEquals(2, multiset.count(null));
+    assertEquals(0, multiset.count("Leia"));
+    assertTrue(multiset.contains("yoda"));
+  }
+
+  @Test
+  public void should_count_elements_with_comparator_not_defining_an_order() {
+    List<?> names = newArrayList("Luke", "Yoda", "Leia", "Yoda");
+    // like field by field comparators, only tells whether elements are equal
+    Comparator<String> equalityOnlyComparator = new Comparator<String>() {
+      @Override
+      public int compare(String s1, String s2) {
+        return s1.equals(s2) ? 0 : -1;
+      }
+    };
+    ElementMultiset multiset = ElementMultiset.of(names, new ComparatorBasedComparisonStrategy(equalityOnlyComparator));
+    assertTrue(multiset.contains("Leia"));
+    assertTrue(multiset.contains("Yoda"));
+    assertFalse(multiset.contains("Han"));
+  }
+
+  @Test
+  public void should_look_up_elements_when_looked_up_a_few_times() {
+    List<?> names = newArrayList("Luke", "Yoda", "luke");
+    ElementMultiset multiset = ElementMultiset.forContains(names, new ComparatorBasedComparisonStrategy(
+        CaseInsensitiveStringComparator.instance), 1);
+    assertTrue(multiset.contains("LUKE"));
+    assertTrue(multiset.contains("yoda"));
+    assertFalse(multiset.contains("Leia"));
+  }
+
+  @Test
+  public void should_look_up_elements_when_looked_up_many_times() {
+    ElementMultiset multiset = ElementMultiset.forContains(elements, StandardComparisonStrategy.instance(), 100);
+    assertTrue(multiset.contains("Luke"));
+    assertTrue(multiset.contains(null));
+    assertTrue(multiset.contains(new Integer[] { 1, 2 }));
+    assertFalse(multiset.contains("luke"));
+    multiset = ElementMultiset.forContains(elements.subList(0, 5), new ComparatorBasedComparisonStrategy(
+        CaseInsensitiveStringComparator.instance), 100);
+    assertTrue(multiset.contains("luke"));
+    assertFalse(multiset.contains("Leia"));
+  }
+
+  @Test
+  public void should_count_elements_with_other_comparison_strategy() {
+    List<?> lists = newArrayList(newArrayList("Luke"), newArrayList("LUKE"), newArrayList("Yoda"));
+    ElementMultiset multiset = ElementMultiset.of(lists, new IterableElementComparisonStrategy<>(
+        CaseInsensitiveStringComparator.instance));
+    assertEquals(2, multiset.count(newArrayList("luke")));
+    assertEquals(0, multiset.count(newArrayList("Leia")));
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.util.introspection.FieldSupport;
+import org.junit.Test;
+
+public class FieldComparisonPlan_Test {
+
+  @Test
+  public void should_return_declared_fields_including_inherited_ones() {
+	List<String> fieldNames = new ArrayList<>();
+	for (Field field : FieldComparisonPlan.of(Child.class).fields()) {
+	  if (!field.isSynthetic()) fieldNames.add(field.getName());
+	}
+	assertThat(fieldNames).containsExactly("name", "age", "name");
+  }
+
+  @Test
+  public void should_cache_plan_per_class() {
+	assertThat(FieldComparisonPlan.of(Child.class)).isSameAs(FieldComparisonPlan.of(Child.class));
+  }
+
+  @Test
+  public void should_know_declared_fields() {
+	FieldComparisonPlan plan = FieldComparisonPlan.of(Child.class);
+	assertThat(plan.hasField("age")).isTrue();
+	assertThat(plan.hasField("unknown")).isFalse();
+  }
+
+  @Test
+  public void should_know_private_fields_are_not_readable_unless_private_fields_are_allowed() throws Exception {
+	FieldSupport fieldSupport = FieldSupport.comparison();
+	boolean allowedToUsePrivateFields = fieldSupport.isAllowedToUsePrivateFields();
+	FieldComparisonPlan plan = FieldComparisonPlan.of(Child.class);
+	Child child = new Child();
+	try {
+	  fieldSupport.setAllowUsingPrivateFields(false);
+	  assertThat(plan.isFieldNotReadable("age", fieldSupport)).isTrue();
+	  assertThat(plan.isFieldNotReadable("name", fieldSupport)).isFalse();
+	  assertThat(plan.isFieldNotReadable("unknown", fieldSupport)).isFalse();
+	  assertThat(plan.canRead(Child.class.getDeclaredField("age"), fieldSupport, child)).isTrue();
+	  assertThat(plan.canRead(Parent.class.getDeclaredField("name"), fieldSupport, child)).isFalse();
+	  fieldSupport.setAllowUsingPrivateFields(true);
+	  assertThat(plan.isFieldNotReadable("age", fieldSupport)).isFalse();
+	} finally {
+	  fieldSupport.setAllowUsingPrivateFields(allowedToUsePrivateFields);
+	}
+  }
+
+  static class Parent {
+	@SuppressWarnings("unused")
+	private String name;
+  }
+
+  static class Child extends Parent {
+	public String name;
+	private int age;
+
+	public int getAge() {
+	  return age;
+	}
+  }
+}
@@ -0,0 +1,94 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FileDigests_Test {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @After
+  public void disableCache() {
+    FileDigests.setExpectedDigestsCacheEnabled(false);
+  }
+
+  @Test
+  public void should_digest_file_content_larger_than_buffer() throws Exception {
+    byte[] content = new byte[Digests.BUFFER_SIZE * 2 + 3];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    Path file = write(content);
+    assertThat(FileDigests.digestOf(file, md5())).isEqualTo(md5().digest(content));
+  }
+
+  @Test
+  public void should_digest_expected_file_again_when_cache_is_disabled() throws Exception {
+    Path file = write("abc".getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    FileDigests.expectedDigestOf(file, md5());
+    // same size and last modification time, only a digest computation can tell
+    Files.write(file, "xyz".getBytes());
+    Files.setLastModifiedTime(file, lastModified);
+    assertThat(FileDigests.expectedDigestOf(file, md5())).isEqualTo(md5().digest("xyz".getBytes()));
+  }
+
+  @Test
+  public void should_digest_expected_file_once_when_cache_is_enabled() throws Exception {
+    FileDigests.setExpectedDigestsCacheEnabled(true);
+    Path file = write("abc".getBytes());
+    FileTime lastModified = Files.getLastModifiedTime(file);
+    byte[] digest = FileDigests.expectedDigestOf(file, md5());
+    Files.write(file, "xyz".getBytes());
+    Files.setLastModifiedTime(file, lastModified);
+    assertThat(FileDigests.expectedDigestOf(file, md5())).isEqualTo(digest).isEqualTo(md5().digest("abc".getBytes()));
+    // cached digests are keyed by algorithm
+    assertThat(FileDigests.expectedDigestOf(file, MessageDigest.getInstance("SHA-256")))
+      .isEqualTo(MessageDigest.getInstance("SHA-256").digest("xyz".getBytes()));
+  }
+
+  @Test
+  public void should_digest_expected_file_again_when_it_has_been_modified() throws Exception {
+    FileDigests.setExpectedDigestsCacheEnabled(true);
+    Path file = write("abc".getBytes());
+    FileDigests.expectedDigestOf(file, md5());
+    Files.write(file, "abcd".getBytes());
+    assertThat(FileDigests.expectedDigestOf(file, md5())).isEqualTo(md5().digest("abcd".getBytes()));
+    Files.write(file, "wxyz".getBytes());
+    Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10000));
+    assertThat(FileDigests.expectedDigestOf(file, md5())).isEqualTo(md5().digest("wxyz".getBytes()));
+  }
+
+  private Path write(byte[] content) throws IOException {
+    File file = temporaryFolder.newFile();
+    return Files.write(file.toPath(), content);
+  }
+
+  private static MessageDigest md5() throws Exception {
+    return MessageDigest.getInstance("MD5");
+  }
+}
@@ -0,0 +1,102 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.Test;
+
+public class KnuthMorrisPratt_Test {
+
+  private final ComparisonStrategy standard = StandardComparisonStrategy.instance();
+
+  @Test
+  public void should_find_sequence_after_overlapping_partial_matches() {
+    assertThat(containsSequence(asList("a", "a", "b", "a", "a", "a", "b"), "a", "a", "a", "b")).isTrue();
+    assertThat(containsSequence(asList("a", "b", "a", "b", "a", "c"), "a", "b", "a", "c")).isTrue();
+    assertThat(containsSequence(asList("a", "b", "a", "b", "a", "b"), "a", "b", "a", "c")).isFalse();
+  }
+
+  @Test
+  public void should_find_sequence_with_null_elements() {
+    assertThat(containsSequence(asList("a", null, null, "b"), null, "b")).isTrue();
+    assertThat(containsSequence(asList("a", null, "b"), null, null)).isFalse();
+  }
+
+  @Test
+  public void should_compare_elements_with_comparison_strategy() {
+    ComparisonStrategy caseInsensitive = new ComparatorBasedComparisonStrategy(
+        CaseInsensitiveStringComparator.instance);
+    List<String> names = asList("Luke", "LUKE", "Leia", "Yoda");
+    assertThat(KnuthMorrisPratt.containsSequence(names, new Object[] { "luke", "leia" }, caseInsensitive)).isTrue();
+    assertThat(KnuthMorrisPratt.containsSequence(names, new Object[] { "luke", "leia" }, standard)).isFalse();
+  }
+
+  @Test
+  public void should_compare_each_window_with_non_transitive_comparator() {
+    ComparisonStrategy closeTo = new ComparatorBasedComparisonStrategy(new Comparator<Integer>() {
+      @Override
+      public int compare(Integer a, Integer b) {
+        return Math.abs(a - b) <= 1 ? 0 : a.compareTo(b);
+      }
+    });
+    assertThat(KnuthMorrisPratt.containsSequence(asList(3, 2, 4, 2), new Object[] { 4, 3, 2 }, closeTo)).isFalse();
+    assertThat(KnuthMorrisPratt.containsSequence(asList(0, 2, 2, 0, 0, 0), new Object[] { 1, 3, 0 }, closeTo)).isTrue();
+  }
+
+  @Test
+  public void should_read_elements_only_once() {
+    final Iterator<String> names = asList("Yoda", "Luke", "Yoda", "Luke", "Leia").iterator();
+    Iterable<String> onceIterable = new Iterable<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return names;
+      }
+    };
+    assertThat(KnuthMorrisPratt.containsSequence(onceIterable, new Object[] { "Yoda", "Luke", "Leia" }, standard))
+      .isTrue();
+  }
+
+  @Test
+  public void should_find_same_sequences_as_indexOfSubList() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      List<Integer> elements = randomList(random, random.nextInt(40));
+      List<Integer> sequence = randomList(random, 1 + random.nextInt(6));
+      boolean expected = Collections.indexOfSubList(elements, sequence) >= 0;
+      assertThat(KnuthMorrisPratt.containsSequence(elements, sequence.toArray(), standard))
+        .as("%s in %s", sequence, elements).isEqualTo(expected);
+    }
+  }
+
+  private boolean containsSequence(List<String> elements, String... sequence) {
+    return KnuthMorrisPratt.containsSequence(elements, sequence, standard);
+  }
+
+  private static List<Integer> randomList(Random random, int size) {
+    List<Integer> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(random.nextInt(3));
+    }
+    return list;
+  }
+}
@@ -0,0 +1,139 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.rules.ExpectedException.none;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.internal.ParallelChecks.ElementCheck;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ParallelChecks_Test {
+
+  @Rule
+  public ExpectedException thrown = none();
+
+  private static final ElementCheck IS_EVEN = new ElementCheck() {
+    @Override
+    public boolean check(Object element) {
+      return (Integer) element % 2 == 0;
+    }
+  };
+
+  @After
+  public void disableParallelChecks() {
+    ParallelChecks.setParallelThreshold(ParallelChecks.DISABLED);
+  }
+
+  @Test
+  public void should_not_check_in_parallel_by_default() {
+    assertThat(ParallelChecks.isWorthFor(Integer.MAX_VALUE - 1)).isFalse();
+  }
+
+  @Test
+  public void should_check_in_parallel_from_threshold() {
+    ParallelChecks.setParallelThreshold(10);
+    assertThat(ParallelChecks.isWorthFor(9)).isFalse();
+    assertThat(ParallelChecks.isWorthFor(10)).isTrue();
+  }
+
+  @Test
+  public void should_fail_if_threshold_is_not_positive() {
+    thrown.expect(IllegalArgumentException.class);
+    thrown.expectMessage("The parallel threshold should be greater than 0 but was <0>");
+    ParallelChecks.setParallelThreshold(0);
+  }
+
+  @Test
+  public void should_return_check_results_in_element_order() {
+    Integer[] elements = integers(10001);
+    boolean[] results = ParallelChecks.checkAll(elements, IS_EVEN);
+    for (int i = 0; i < elements.length; i++) {
+      assertThat(results[i]).as("result %s", i).isEqualTo(i % 2 == 0);
+    }
+  }
+
+  @Test
+  public void should_tell_whether_all_elements_pass_check() {
+    Integer[] elements = integers(10001);
+    assertThat(ParallelChecks.allMatch(elements, IS_EVEN)).isFalse();
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = 2 * i;
+    }
+    assertThat(ParallelChecks.allMatch(elements, IS_EVEN)).isTrue();
+    assertThat(ParallelChecks.allMatch(new Object[0], IS_EVEN)).isTrue();
+  }
+
+  @Test
+  public void should_count_elements_passing_check() {
+    Integer[] elements = integers(10001);
+    assertThat(ParallelChecks.countMatches(elements, IS_EVEN, Integer.MAX_VALUE)).isEqualTo(5001);
+    assertThat(ParallelChecks.countMatches(elements, IS_EVEN, 5002)).isEqualTo(5001);
+    assertThat(ParallelChecks.countMatches(elements, IS_EVEN, 100)).isGreaterThanOrEqualTo(100);
+  }
+
+  @Test
+  public void should_stop_counting_once_max_count_is_reached() {
+    final AtomicInteger evaluations = new AtomicInteger();
+    ElementCheck countingCheck = new ElementCheck() {
+      @Override
+      public boolean check(Object element) {
+        evaluations.incrementAndGet();
+        return true;
+      }
+    };
+    Integer[] elements = integers(100000);
+    assertThat(ParallelChecks.countMatches(elements, countingCheck, 10)).isGreaterThanOrEqualTo(10);
+    assertThat(evaluations.get()).isLessThan(elements.length / 10);
+  }
+
+  @Test
+  public void should_tell_whether_elements_have_duplicates() {
+    Object[] elements = integers(10001);
+    assertThat(ParallelChecks.haveNoDuplicates(elements)).isTrue();
+    elements[10000] = 5000;
+    assertThat(ParallelChecks.haveNoDuplicates(elements)).isFalse();
+  }
+
+  @Test
+  public void should_compare_arrays_and_nulls_as_standard_comparison_strategy_does() {
+    assertThat(ParallelChecks.haveNoDuplicates(new Object[] { new int[] { 1 }, new int[] { 2 }, null })).isTrue();
+    assertThat(ParallelChecks.haveNoDuplicates(new Object[] { new int[] { 1 }, new int[] { 1 } })).isFalse();
+    assertThat(ParallelChecks.haveNoDuplicates(new Object[] { null, "a", null })).isFalse();
+  }
+
+  @Test
+  public void should_find_duplicates_among_elements_with_colliding_hash_codes() {
+    // a Long whose high and low halves are equal has a 0 hash code, all these elements fall in the same partition
+    Object[] elements = new Object[1000];
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = ((long) i << 32) | i;
+    }
+    assertThat(ParallelChecks.haveNoDuplicates(elements)).isTrue();
+    elements[999] = elements[0];
+    assertThat(ParallelChecks.haveNoDuplicates(elements)).isFalse();
+  }
+
+  private static Integer[] integers(int count) {
+    Integer[] integers = new Integer[count];
+    for (int i = 0; i < count; i++) {
+      integers[i] = i;
+    }
+    return integers;
+  }
+}
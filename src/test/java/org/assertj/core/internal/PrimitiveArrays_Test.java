@@ -0,0 +1,132 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.PrimitiveArrays.*;
+
+import org.junit.Test;
+
+public class PrimitiveArrays_Test {
+
+  @Test
+  public void should_only_handle_arrays_of_primitives_of_same_type() {
+    assertThat(isPrimitiveArray(new int[0])).isTrue();
+    assertThat(isPrimitiveArray(new Integer[0])).isFalse();
+    assertThat(isPrimitiveArray(null)).isFalse();
+    assertThat(arePrimitiveArraysOfSameType(new int[0], new int[0])).isTrue();
+    assertThat(arePrimitiveArraysOfSameType(new int[0], new long[0])).isFalse();
+    assertThat(arePrimitiveArraysOfSameType(new Object[0], new Object[0])).isFalse();
+  }
+
+  @Test
+  public void should_compare_doubles_as_their_wrappers_do() {
+    double[] actual = { Double.NaN, 0.0 };
+    assertThat(containsAll(actual, new double[] { Double.NaN })).isTrue();
+    assertThat(containsAll(actual, new double[] { -0.0 })).isFalse();
+    assertThat(containsNone(actual, new double[] { -0.0, 1.0 })).isTrue();
+    assertThat(hasNoDuplicates(new double[] { 0.0, -0.0 })).isTrue();
+    assertThat(hasNoDuplicates(new double[] { Double.NaN, Double.NaN })).isFalse();
+  }
+
+  @Test
+  public void should_check_contains_with_many_values() {
+    int[] actual = new int[1000];
+    int[] values = new int[100];
+    for (int i = 0; i < actual.length; i++) {
+      actual[i] = actual.length - i;
+    }
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i + 1;
+    }
+    assertThat(containsAll(actual, values)).isTrue();
+    values[50] = 0;
+    assertThat(containsAll(actual, values)).isFalse();
+  }
+
+  @Test
+  public void should_check_contains_none_with_few_or_many_values() {
+    int[] actual = { 5, 3, 1 };
+    assertThat(containsNone(actual, new int[] { 2 })).isTrue();
+    assertThat(containsNone(actual, new int[] { 2, 3 })).isFalse();
+    int[] values = new int[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 2 * i;
+    }
+    assertThat(containsNone(actual, values)).isTrue();
+    values[50] = 5;
+    assertThat(containsNone(actual, values)).isFalse();
+  }
+
+  @Test
+  public void should_check_contains_only() {
+    assertThat(containsOnly(new long[] { 1, 2, 2, 3 }, new long[] { 3, 2, 1 })).isTrue();
+    assertThat(containsOnly(new long[] { 1, 2, 3 }, new long[] { 1, 2 })).isFalse();
+    assertThat(containsOnly(new long[] { 1, 2 }, new long[] { 1, 2, 3 })).isFalse();
+  }
+
+  @Test
+  public void should_check_contains_exactly() {
+    assertThat(containsExactly(new int[] { 1, 2, 3 }, new int[] { 1, 2, 3 })).isTrue();
+    assertThat(containsExactly(new int[] { 1, 2, 3 }, new int[] { 1, 3, 2 })).isFalse();
+    assertThat(containsExactly(new int[] { 1, 2, 3 }, new int[] { 1, 2 })).isFalse();
+  }
+
+  @Test
+  public void should_check_sequences() {
+    char[] actual = { 'a', 'b', 'c', 'd' };
+    assertThat(containsSequence(actual, new char[] { 'b', 'c' })).isTrue();
+    assertThat(containsSequence(actual, new char[] { 'b', 'd' })).isFalse();
+    assertThat(containsSubsequence(actual, new char[] { 'b', 'd' })).isTrue();
+    assertThat(containsSubsequence(actual, new char[] { 'd', 'b' })).isFalse();
+    assertThat(startsWith(actual, new char[] { 'a', 'b' })).isTrue();
+    assertThat(startsWith(actual, new char[] { 'b' })).isFalse();
+    assertThat(endsWith(actual, new char[] { 'c', 'd' })).isTrue();
+    assertThat(endsWith(actual, new char[] { 'a', 'b', 'c', 'd', 'e' })).isFalse();
+  }
+
+  @Test
+  public void should_check_arrays_are_sorted_according_to_wrappers_natural_order() {
+    assertThat(isSorted(new int[] { -1, 0, 0, 5 })).isTrue();
+    assertThat(isSorted(new int[] { 0, -1 })).isFalse();
+    assertThat(isSorted(new char[] { 'a', Character.MAX_VALUE })).isTrue();
+    assertThat(isSorted(new boolean[] { false, true })).isTrue();
+    assertThat(isSorted(new boolean[] { true, false })).isFalse();
+    assertThat(isSorted(new double[] { -0.0, 0.0, Double.NaN })).isTrue();
+    assertThat(isSorted(new double[] { 0.0, -0.0 })).isFalse();
+    assertThat(isSorted(new float[] { Float.NaN, 1f })).isFalse();
+  }
+
+  @Test
+  public void should_check_arrays_of_each_primitive_type() {
+    Object[] actuals = { new byte[] { 1, 2, 3 }, new short[] { 1, 2, 3 }, new int[] { 1, 2, 3 },
+        new long[] { 1, 2, 3 }, new char[] { 1, 2, 3 }, new float[] { 1, 2, 3 }, new double[] { 1, 2, 3 } };
+    Object[] sequences = { new byte[] { 2, 3 }, new short[] { 2, 3 }, new int[] { 2, 3 }, new long[] { 2, 3 },
+        new char[] { 2, 3 }, new float[] { 2, 3 }, new double[] { 2, 3 } };
+    Object[] others = { new byte[] { 3, 1 }, new short[] { 3, 1 }, new int[] { 3, 1 }, new long[] { 3, 1 },
+        new char[] { 3, 1 }, new float[] { 3, 1 }, new double[] { 3, 1 } };
+    for (int i = 0; i < actuals.length; i++) {
+      assertThat(containsSequence(actuals[i], sequences[i])).isTrue();
+      assertThat(endsWith(actuals[i], sequences[i])).isTrue();
+      assertThat(containsSubsequence(actuals[i], sequences[i])).isTrue();
+      assertThat(containsSequence(actuals[i], others[i])).isFalse();
+      assertThat(containsSubsequence(actuals[i], others[i])).isFalse();
+      assertThat(containsAll(actuals[i], others[i])).isTrue();
+      assertThat(isSorted(actuals[i])).isTrue();
+      assertThat(isSorted(others[i])).isFalse();
+    }
+    boolean[] booleans = { true, false, true };
+    assertThat(containsSequence(booleans, new boolean[] { false, true })).isTrue();
+    assertThat(containsSubsequence(booleans, new boolean[] { false, false })).isFalse();
+  }
+}
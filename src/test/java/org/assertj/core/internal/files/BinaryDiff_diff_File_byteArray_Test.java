@@ -17,6 +17,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
 import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
@@ -96,4 +97,20 @@ public class BinaryDiff_diff_File_byteArray_Test {
     assertEquals("0x62", result.actual);
     assertEquals("EOF", result.expected);
   }
+
+  @Test
+  public void should_return_bytes_around_the_diff_at_the_start_of_a_block() throws IOException {
+    byte[] actualContent = new byte[2 * 64 * 1024];
+    for (int i = 0; i < actualContent.length; i++) {
+      actualContent[i] = (byte) i;
+    }
+    Files.write(actual.toPath(), actualContent);
+    expected = actualContent.clone();
+    expected[65536] = (byte) 0xFF;
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(65536, result.offset);
+    assertEquals(65528, result.windowOffset);
+    assertEquals("F8 F9 FA FB FC FD FE FF 00 01 02 03 04 05 06 07 08", result.actualWindow);
+    assertEquals("F8 F9 FA FB FC FD FE FF FF 01 02 03 04 05 06 07 08", result.expectedWindow);
+  }
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.util.Arrays.array;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 
 import org.assertj.core.internal.Diff;
@@ -66,6 +67,12 @@ public class Diff_diff_File_Test {
     assertEquals(0, diffs.size());
   }
 
+  @Test
+  public void should_return_empty_diff_list_if_files_are_both_empty() throws IOException {
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(0, diffs.size());
+  }
+
   @Test
   public void should_return_diffs_if_files_do_not_have_equal_content() throws IOException {
     writer.write(actual, "line_0", "line_1");
@@ -93,4 +100,33 @@ public class Diff_diff_File_Test {
     assertEquals(1, diffs.size());
     assertEquals("line:<2>, expected:<EOF> but was:<line_1>", diffs.get(0));
   }
+
+  @Test
+  public void should_return_empty_diff_list_if_files_have_equal_content_spanning_several_blocks() throws IOException {
+    String[] content = new String[300000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = "line" + i;
+    }
+    writer.write(actual, content);
+    writer.write(expected, content);
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(0, diffs.size());
+  }
+
+  @Test
+  public void should_return_diffs_if_files_with_same_size_do_not_have_equal_content() throws IOException {
+    writer.write(actual, "line_0", "line_1");
+    writer.write(expected, "line_0", "line_2");
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<2>, expected:<line_2> but was:<line_1>", diffs.get(0));
+  }
+
+  @Test
+  public void should_return_empty_diff_list_if_files_only_differ_by_line_separators() throws IOException {
+    Files.write(actual.toPath(), "line0\nline1".getBytes());
+    Files.write(expected.toPath(), "line0\r\nline1".getBytes());
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(0, diffs.size());
+  }
 }
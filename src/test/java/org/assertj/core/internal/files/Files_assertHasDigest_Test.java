@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.security.MessageDigest;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesBaseTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Files#assertHasDigest(AssertionInfo, File, String, byte[])}</code> and
+ * <code>{@link Files#assertHasDigest(AssertionInfo, File, String, String)}</code>.
+ */
+public class Files_assertHasDigest_Test extends FilesBaseTest {
+
+  private static File actual;
+  private static byte[] actualDigest;
+
+  @BeforeClass
+  public static void setUpOnce() throws Exception {
+    actual = new File("src/test/resources/actual_file.txt");
+    actualDigest = MessageDigest.getInstance("MD5").digest(java.nio.file.Files.readAllBytes(actual.toPath()));
+  }
+
+  @Test
+  public void should_throw_error_if_algorithm_is_null() {
+    thrown.expectNullPointerException("The digest algorithm should not be null");
+    files.assertHasDigest(someInfo(), actual, null, actualDigest);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The expected digest should not be null");
+    files.assertHasDigest(someInfo(), actual, "MD5", (byte[]) null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    files.assertHasDigest(someInfo(), null, "MD5", actualDigest);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_file() {
+    AssertionInfo info = someInfo();
+    File notAFile = new File("xyz");
+    try {
+      files.assertHasDigest(info, notAFile, "MD5", actualDigest);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeFile(notAFile));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_file_has_expected_digest() {
+    files.assertHasDigest(someInfo(), actual, "MD5", actualDigest);
+    files.assertHasDigest(someInfo(), actual, "MD5", new DigestDiff("MD5", actualDigest, actualDigest).actual.toLowerCase());
+  }
+
+  @Test
+  public void should_fail_if_file_does_not_have_expected_digest() {
+    AssertionInfo info = someInfo();
+    byte[] expected = new byte[16];
+    try {
+      files.assertHasDigest(info, actual, "MD5", expected);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveDigest(actual, new DigestDiff("MD5", expected, actualDigest)));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
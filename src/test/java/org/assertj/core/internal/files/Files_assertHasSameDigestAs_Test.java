@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.error.ShouldBeFile.shouldBeFile;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveSameDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.security.MessageDigest;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Files;
+import org.assertj.core.internal.FilesBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Files#assertHasSameDigestAs(AssertionInfo, File, String, File)}</code>.
+ */
+public class Files_assertHasSameDigestAs_Test extends FilesBaseTest {
+
+  private static final File ACTUAL = new File("src/test/resources/actual_file.txt");
+  private static final File EXPECTED = new File("src/test/resources/expected_file.txt");
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The file to compare to should not be null");
+    files.assertHasSameDigestAs(someInfo(), ACTUAL, "MD5", null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_a_file() {
+    thrown.expectIllegalArgumentException("Expected file:<'xyz'> should be an existing file");
+    files.assertHasSameDigestAs(someInfo(), ACTUAL, "MD5", new File("xyz"));
+  }
+
+  @Test
+  public void should_throw_error_if_algorithm_is_not_supported() {
+    thrown.expectIllegalArgumentException("Unable to find digest implementation for: <FOO>");
+    files.assertHasSameDigestAs(someInfo(), ACTUAL, "FOO", EXPECTED);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    files.assertHasSameDigestAs(someInfo(), null, "MD5", EXPECTED);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_file() {
+    AssertionInfo info = someInfo();
+    File notAFile = new File("xyz");
+    try {
+      files.assertHasSameDigestAs(info, notAFile, "MD5", EXPECTED);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeFile(notAFile));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_files_have_same_digest() {
+    files.assertHasSameDigestAs(someInfo(), ACTUAL, "SHA-256", ACTUAL);
+  }
+
+  @Test
+  public void should_fail_if_files_do_not_have_same_digest() throws Exception {
+    AssertionInfo info = someInfo();
+    try {
+      files.assertHasSameDigestAs(info, ACTUAL, "MD5", EXPECTED);
+    } catch (AssertionError e) {
+      DigestDiff diff = new DigestDiff("MD5", md5Of(EXPECTED), md5Of(ACTUAL));
+      verify(failures).failure(info, shouldHaveSameDigest(ACTUAL, EXPECTED, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static byte[] md5Of(File file) throws Exception {
+    return MessageDigest.getInstance("MD5").digest(java.nio.file.Files.readAllBytes(file.toPath()));
+  }
+}
@@ -80,6 +80,74 @@ public class BinaryDiff_diff_InputStream_Test {
     assertEquals("EOF", result.expected);
   }
 
+  @Test
+  public void should_return_diff_if_inputstreams_differ_after_first_block() throws IOException {
+    byte[] actualContent = new byte[3 * 64 * 1024];
+    byte[] expectedContent = actualContent.clone();
+    expectedContent[100000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(100000, result.offset);
+    assertEquals("0x0", result.actual);
+    assertEquals("0xCA", result.expected);
+  }
+
+  @Test
+  public void should_return_no_diff_if_inputstreams_have_equal_content_spanning_several_blocks() throws IOException {
+    byte[] content = new byte[2 * 64 * 1024];
+    content[content.length - 1] = (byte) 0xFE;
+    actual = new ByteArrayInputStream(content);
+    expected = new ByteArrayInputStream(content.clone());
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertTrue(result.hasNoDiff());
+  }
+
+  @Test
+  public void should_return_bytes_around_the_diff() throws IOException {
+    actual = stream(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0xA, 0xB, 0xC, 0xD, 0xE, 0xF, 0x10, 0x11, 0x12, 0x13, 0x14);
+    expected = stream(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 0xFF, 0xB, 0xC);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(10, result.offset);
+    assertEquals(2, result.windowOffset);
+    assertEquals("02 03 04 05 06 07 08 09 0A 0B 0C 0D 0E 0F 10 11 12", result.actualWindow);
+    assertEquals("02 03 04 05 06 07 08 09 FF 0B 0C", result.expectedWindow);
+  }
+
+  @Test
+  public void should_return_bytes_around_the_diff_at_the_start_of_a_block() throws IOException {
+    byte[] actualContent = new byte[2 * 64 * 1024];
+    for (int i = 0; i < actualContent.length; i++) {
+      actualContent[i] = (byte) i;
+    }
+    byte[] expectedContent = actualContent.clone();
+    expectedContent[65536] = (byte) 0xFF;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(65536, result.offset);
+    assertEquals(65528, result.windowOffset);
+    assertEquals("F8 F9 FA FB FC FD FE FF 00 01 02 03 04 05 06 07 08", result.actualWindow);
+    assertEquals("F8 F9 FA FB FC FD FE FF FF 01 02 03 04 05 06 07 08", result.expectedWindow);
+  }
+
+  @Test
+  public void should_return_bytes_around_the_diff_at_the_end_of_a_block() throws IOException {
+    byte[] actualContent = new byte[2 * 64 * 1024];
+    for (int i = 0; i < actualContent.length; i++) {
+      actualContent[i] = (byte) i;
+    }
+    byte[] expectedContent = actualContent.clone();
+    expectedContent[65535] = (byte) 0;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertEquals(65535, result.offset);
+    assertEquals(65527, result.windowOffset);
+    assertEquals("F7 F8 F9 FA FB FC FD FE FF 00 01 02 03 04 05 06 07", result.actualWindow);
+    assertEquals("F7 F8 F9 FA FB FC FD FE 00 00 01 02 03 04 05 06 07", result.expectedWindow);
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -86,4 +86,48 @@ public class Diff_diff_InputStream_Test {
     assertEquals(1, diffs.size());
     assertEquals("line:<3>, expected:<EOF> but was:<line_1>", diffs.get(0));
   }
+
+  @Test
+  public void should_return_one_diff_if_actual_has_an_extra_line() throws IOException {
+    actual = stream("inserted", "line0", "line1", "line2", "line3", "line4");
+    expected = stream("line0", "line1", "line2", "line3", "line4");
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<1>, expected (-) and actual (+) lines differ:" + LINE_SEPARATOR
+                 + "+ inserted" + LINE_SEPARATOR
+                 + "  line0" + LINE_SEPARATOR
+                 + "  line1" + LINE_SEPARATOR
+                 + "  line2", diffs.get(0));
+  }
+
+  @Test
+  public void should_return_one_diff_if_actual_misses_a_line() throws IOException {
+    actual = stream("line0", "line1", "line2", "line4", "line5");
+    expected = stream("line0", "line1", "line2", "line3", "line4", "line5");
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(1, diffs.size());
+    assertEquals("line:<4>, expected (-) and actual (+) lines differ:" + LINE_SEPARATOR
+                 + "  line0" + LINE_SEPARATOR
+                 + "  line1" + LINE_SEPARATOR
+                 + "  line2" + LINE_SEPARATOR
+                 + "- line3" + LINE_SEPARATOR
+                 + "  line4" + LINE_SEPARATOR
+                 + "  line5", diffs.get(0));
+  }
+
+  @Test
+  public void should_limit_the_number_of_reported_diffs() throws IOException {
+    String[] actualLines = new String[100];
+    String[] expectedLines = new String[100];
+    for (int i = 0; i < 100; i++) {
+      actualLines[i] = "actual" + i;
+      expectedLines[i] = "expected" + i;
+    }
+    actual = stream(actualLines);
+    expected = stream(expectedLines);
+    List<String> diffs = diff.diff(actual, expected);
+    assertEquals(51, diffs.size());
+    assertEquals("line:<50>, expected:<expected49> but was:<actual49>", diffs.get(49));
+    assertEquals("... and <50> more differences", diffs.get(50));
+  }
 }
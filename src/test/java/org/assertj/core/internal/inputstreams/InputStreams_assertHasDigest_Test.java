@@ -0,0 +1,102 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasDigest(AssertionInfo, InputStream, String, byte[])}</code> and
+ * <code>{@link InputStreams#assertHasDigest(AssertionInfo, InputStream, String, String)}</code>.
+ */
+public class InputStreams_assertHasDigest_Test extends InputStreamsBaseTest {
+
+  private static final String ABC_MD5 = "900150983cd24fb0d6963f7d28e17f72";
+  private static final String ABC_SHA_256 = "BA7816BF8F01CFEA414140DE5DAE2223B00361A396177A9CB410FF61F20015AD";
+
+  @Test
+  public void should_throw_error_if_algorithm_is_null() {
+    thrown.expectNullPointerException("The digest algorithm should not be null");
+    inputStreams.assertHasDigest(someInfo(), abc(), null, ABC_MD5);
+  }
+
+  @Test
+  public void should_throw_error_if_algorithm_is_not_supported() {
+    thrown.expectIllegalArgumentException("Unable to find digest implementation for: <FOO>");
+    inputStreams.assertHasDigest(someInfo(), abc(), "FOO", ABC_MD5);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_digest_is_null() {
+    thrown.expectNullPointerException("The expected digest should not be null");
+    inputStreams.assertHasDigest(someInfo(), abc(), "MD5", (byte[]) null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_digest_is_not_hexadecimal() {
+    thrown.expectIllegalArgumentException("The expected digest <0x12> is not a valid hexadecimal string");
+    inputStreams.assertHasDigest(someInfo(), abc(), "MD5", "0x12");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    inputStreams.assertHasDigest(someInfo(), null, "MD5", ABC_MD5);
+  }
+
+  @Test
+  public void should_pass_if_inputstream_has_expected_digest() {
+    inputStreams.assertHasDigest(someInfo(), abc(), "MD5", ABC_MD5);
+    inputStreams.assertHasDigest(someInfo(), abc(), "SHA-256", ABC_SHA_256);
+  }
+
+  @Test
+  public void should_fail_if_inputstream_does_not_have_expected_digest() {
+    AssertionInfo info = someInfo();
+    InputStream actualStream = abc();
+    byte[] expectedDigest = new byte[16];
+    try {
+      inputStreams.assertHasDigest(info, actualStream, "MD5", expectedDigest);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveDigest(actualStream, new DigestDiff("MD5", expectedDigest,
+                                                                                     md5OfAbc())));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static InputStream abc() {
+    return new ByteArrayInputStream(new byte[] { 'a', 'b', 'c' });
+  }
+
+  private static byte[] md5OfAbc() {
+    byte[] digest = new byte[ABC_MD5.length() / 2];
+    for (int i = 0; i < digest.length; i++) {
+      digest[i] = (byte) Integer.parseInt(ABC_MD5.substring(2 * i, 2 * i + 2), 16);
+    }
+    return digest;
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertHasSize(AssertionInfo, InputStream, long)}</code>.
+ */
+public class InputStreams_assertHasSize_Test extends InputStreamsBaseTest {
+
+  @Test
+  public void should_throw_error_if_expected_size_is_negative() {
+    thrown.expectIllegalArgumentException("The expected size should not be negative");
+    inputStreams.assertHasSize(someInfo(), actual, -1);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    inputStreams.assertHasSize(someInfo(), null, 0);
+  }
+
+  @Test
+  public void should_pass_if_inputstream_has_expected_size() {
+    inputStreams.assertHasSize(someInfo(), new ByteArrayInputStream(new byte[100 * 1024]), 100 * 1024);
+  }
+
+  @Test
+  public void should_fail_if_inputstream_does_not_have_expected_size() {
+    AssertionInfo info = someInfo();
+    InputStream actualStream = new ByteArrayInputStream(new byte[3]);
+    try {
+      inputStreams.assertHasSize(info, actualStream, 2);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveSize(actualStream, 3L, 2L));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.inputstreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.InputStreams;
+import org.assertj.core.internal.InputStreamsBaseTest;
+import org.assertj.core.internal.InputStreamsException;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link InputStreams#assertSameContentAs(AssertionInfo, InputStream, InputStream)}</code>.
+ */
+public class InputStreams_assertSameContentAs_Test extends InputStreamsBaseTest {
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+    thrown.expectNullPointerException("The InputStream to compare to should not be null");
+    inputStreams.assertSameContentAs(someInfo(), actual, null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    inputStreams.assertSameContentAs(someInfo(), null, expected);
+  }
+
+  @Test
+  public void should_pass_if_inputstreams_have_same_content() {
+    inputStreams.assertSameContentAs(someInfo(), stream(1, 2, 3), stream(1, 2, 3));
+  }
+
+  @Test
+  public void should_fail_if_inputstreams_do_not_have_same_content() {
+    InputStream actualStream = stream(1, 2, 3);
+    InputStream expectedStream = stream(1, 2);
+    AssertionInfo info = someInfo();
+    try {
+      inputStreams.assertSameContentAs(info, actualStream, expectedStream);
+    } catch (AssertionError e) {
+      BinaryDiffResult diff = new BinaryDiffResult(2, -1, 3, 0, "01 02", "01 02 03");
+      verify(failures).failure(info, shouldHaveSameContent(actualStream, expectedStream, diff));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_wrapping_catched_IOException() {
+    final IOException cause = new IOException();
+    InputStream failingStream = new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw cause;
+      }
+    };
+    try {
+      inputStreams.assertSameContentAs(someInfo(), failingStream, stream(1));
+      failBecauseExpectedAssertionErrorWasNotThrown();
+    } catch (InputStreamsException e) {
+      assertThat(e.getCause()).isSameAs(cause);
+    }
+  }
+
+  private static InputStream stream(int... bytes) {
+    byte[] content = new byte[bytes.length];
+    for (int i = 0; i < bytes.length; i++) {
+      content[i] = (byte) bytes[i];
+    }
+    return new ByteArrayInputStream(content);
+  }
+}
@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ElementsShouldBeAtMost.elementsShouldBeAtMost;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
@@ -19,9 +20,13 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.condition.JediCondition;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesWithConditionsBaseTest;
 
@@ -72,4 +77,29 @@ public class Iterables_assertAreAtMost_Test extends IterablesWithConditionsBaseT
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_fail_without_evaluating_remaining_elements_once_condition_is_satisfied_too_many_times() {
+    EvaluationRecordingJediCondition recordingJedi = new EvaluationRecordingJediCondition();
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Yoda", "Luke", "Obiwan", "Leia");
+    try {
+      iterables.assertAreAtMost(info, actual, 1, recordingJedi);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, elementsShouldBeAtMost(actual, 1, recordingJedi));
+      assertThat(recordingJedi.evaluated).containsExactly("Yoda", "Luke");
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static class EvaluationRecordingJediCondition extends JediCondition {
+    private final List<String> evaluated = new ArrayList<>();
+
+    @Override
+    public boolean matches(String value) {
+      evaluated.add(value);
+      return super.matches(value);
+    }
+  }
+
 }
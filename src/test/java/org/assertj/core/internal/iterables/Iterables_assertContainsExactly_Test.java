@@ -128,6 +128,12 @@ public class Iterables_assertContainsExactly_Test extends IterablesBaseTest {
         array("LUKE", "YODA", "Leia"));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_duplicated_values_exactly_according_to_custom_comparison_strategy() {
+    iterablesWithCaseInsensitiveComparisonStrategy.assertContainsExactly(someInfo(), newArrayList("Luke", "luke"),
+        array("LUKE", "Luke"));
+  }
+
   @Test
   public void should_fail_if_actual_does_not_contain_given_values_exactly_according_to_custom_comparison_strategy() {
     AssertionInfo info = someInfo();
@@ -131,6 +131,12 @@ public class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
     iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_sequence_overlapping_a_partial_sequence() {
+    actual = newArrayList("Yoda", "Yoda", "Luke", "Yoda", "Yoda", "Yoda", "Luke");
+    iterables.assertContainsSequence(someInfo(), actual, array("Yoda", "Yoda", "Yoda", "Luke"));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -166,6 +172,13 @@ public class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
     iterablesWithCaseInsensitiveComparisonStrategy.assertContainsSequence(someInfo(), actual, array("LUKe", "leia"));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_sequence_overlapping_a_partial_sequence_according_to_custom_comparison_strategy() {
+    actual = newArrayList("Yoda", "Luke", "YODA", "luke", "Yoda", "Leia");
+    iterablesWithCaseInsensitiveComparisonStrategy.assertContainsSequence(someInfo(), actual,
+        array("yoda", "LUKE", "yoda", "leia"));
+  }
+
   @Test
   public void should_pass_if_actual_and_sequence_are_equal_according_to_custom_comparison_strategy() {
     iterablesWithCaseInsensitiveComparisonStrategy.assertContainsSequence(someInfo(), actual,
@@ -0,0 +1,100 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static org.assertj.core.error.ShouldBeSorted.*;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Iterables#assertIsSortedAccordingToComparator(AssertionInfo, Iterable, Comparator)}</code>.
+ */
+public class Iterables_assertIsSortedAccordingToComparator_Test extends IterablesBaseTest {
+
+  private static Comparator<String> stringDescendingOrderComparator = new Comparator<String>() {
+    @Override
+    public int compare(String s1, String s2) {
+      return -s1.compareTo(s2);
+    }
+  };
+
+  @Test
+  public void should_pass_if_actual_is_sorted_according_to_given_comparator() {
+    iterables.assertIsSortedAccordingToComparator(someInfo(), newArrayList("Yoda", "Vador", "Luke", "Leia", "Leia"),
+        stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_not_a_list_and_is_sorted_according_to_given_comparator() {
+    ArrayDeque<String> actual = new ArrayDeque<>(newArrayList("Yoda", "Luke", "Leia"));
+    iterables.assertIsSortedAccordingToComparator(someInfo(), actual, stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty_whatever_given_comparator_is() {
+    iterables.assertIsSortedAccordingToComparator(someInfo(), newArrayList(), stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterables.assertIsSortedAccordingToComparator(someInfo(), null, stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_comparator_is_null() {
+    thrown.expect(NullPointerException.class);
+    iterables.assertIsSortedAccordingToComparator(someInfo(), newArrayList(), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("Yoda", "Vador", "Leia", "Leia", "Luke");
+    try {
+      iterables.assertIsSortedAccordingToComparator(info, actual, stringDescendingOrderComparator);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSortedAccordingToGivenComparator(3, actual, stringDescendingOrderComparator));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_one_element_only_not_comparable_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList(new Object());
+    try {
+      iterables.assertIsSortedAccordingToComparator(info, actual, stringDescendingOrderComparator);
+    } catch (AssertionError e) {
+      verify(failures).failure(info,
+          shouldHaveComparableElementsAccordingToGivenComparator(actual, stringDescendingOrderComparator));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
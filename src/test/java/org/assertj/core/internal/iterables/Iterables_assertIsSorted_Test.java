@@ -0,0 +1,130 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static org.assertj.core.error.ShouldBeSorted.*;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Iterables#assertIsSorted(AssertionInfo, Iterable)}</code>.
+ */
+public class Iterables_assertIsSorted_Test extends IterablesBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_sorted_in_ascending_order() {
+    iterables.assertIsSorted(someInfo(), newArrayList("Leia", "Luke", "Luke", "Vador", "Yoda"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_sorted_in_ascending_order_according_to_custom_comparison_strategy() {
+    iterablesWithCaseInsensitiveComparisonStrategy.assertIsSorted(someInfo(),
+        newArrayList("leia", "LUKE", "luke", "Vador", "Yoda"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_a_sorted_set() {
+    iterables.assertIsSorted(someInfo(), new TreeSet<>(actual));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_a_sorted_linked_list() {
+    iterables.assertIsSorted(someInfo(), new LinkedList<>(Arrays.asList("Leia", "Luke", "Yoda")));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    iterables.assertIsSorted(someInfo(), newArrayList());
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_only_one_comparable_element() {
+    iterables.assertIsSorted(someInfo(), newArrayList("Obiwan"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterables.assertIsSorted(someInfo(), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted_in_ascending_order() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("Luke", "Yoda", "Leia");
+    try {
+      iterables.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSorted(1, actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_sorted_in_ascending_order_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("LUKE", "Yoda", "leia");
+    try {
+      iterablesWithCaseInsensitiveComparisonStrategy.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSortedAccordingToGivenComparator(1, actual, comparisonStrategy.getComparator()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_only_one_non_comparable_element() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList(new Object());
+    try {
+      iterables.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_some_not_mutually_comparable_elements() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList();
+    actual.add("bar");
+    actual.add(new Integer(5));
+    actual.add("foo");
+    try {
+      iterables.assertIsSorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static org.assertj.core.error.ShouldBeSorted.shouldBeStrictlySortedAccordingToGivenComparator;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for
+ * <code>{@link Iterables#assertIsStrictlySortedAccordingToComparator(AssertionInfo, Iterable, Comparator)}</code>.
+ */
+public class Iterables_assertIsStrictlySortedAccordingToComparator_Test extends IterablesBaseTest {
+
+  private static Comparator<String> stringDescendingOrderComparator = new Comparator<String>() {
+    @Override
+    public int compare(String s1, String s2) {
+      return -s1.compareTo(s2);
+    }
+  };
+
+  @Test
+  public void should_pass_if_actual_is_strictly_sorted_according_to_given_comparator() {
+    iterables.assertIsStrictlySortedAccordingToComparator(someInfo(), newArrayList("Yoda", "Vador", "Luke", "Leia"),
+        stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterables.assertIsStrictlySortedAccordingToComparator(someInfo(), null, stringDescendingOrderComparator);
+  }
+
+  @Test
+  public void should_fail_if_comparator_is_null() {
+    thrown.expect(NullPointerException.class);
+    iterables.assertIsStrictlySortedAccordingToComparator(someInfo(), newArrayList(), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_equal_consecutive_elements_according_to_given_comparator() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("Yoda", "Vador", "Vador", "Leia");
+    try {
+      iterables.assertIsStrictlySortedAccordingToComparator(info, actual, stringDescendingOrderComparator);
+    } catch (AssertionError e) {
+      verify(failures).failure(info,
+          shouldBeStrictlySortedAccordingToGivenComparator(1, actual, stringDescendingOrderComparator));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
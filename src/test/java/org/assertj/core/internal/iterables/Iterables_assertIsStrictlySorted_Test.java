@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.iterables;
+
+import static org.assertj.core.error.ShouldBeSorted.*;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.Iterables;
+import org.assertj.core.internal.IterablesBaseTest;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Iterables#assertIsStrictlySorted(AssertionInfo, Iterable)}</code>.
+ */
+public class Iterables_assertIsStrictlySorted_Test extends IterablesBaseTest {
+
+  @Test
+  public void should_pass_if_actual_is_sorted_in_strictly_ascending_order() {
+    iterables.assertIsStrictlySorted(someInfo(), newArrayList("Leia", "Luke", "Vador", "Yoda"));
+  }
+
+  @Test
+  public void should_pass_if_actual_is_empty() {
+    iterables.assertIsStrictlySorted(someInfo(), newArrayList());
+  }
+
+  @Test
+  public void should_pass_if_actual_contains_only_one_comparable_element() {
+    iterables.assertIsStrictlySorted(someInfo(), newArrayList("Obiwan"));
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+    thrown.expectAssertionError(actualIsNull());
+    iterables.assertIsStrictlySorted(someInfo(), null);
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_equal_consecutive_elements() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("Leia", "Luke", "Luke", "Yoda");
+    try {
+      iterables.assertIsStrictlySorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeStrictlySorted(1, actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_equal_consecutive_elements_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    List<String> actual = newArrayList("Leia", "Luke", "LUKE", "Yoda");
+    try {
+      iterablesWithCaseInsensitiveComparisonStrategy.assertIsStrictlySorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info,
+          shouldBeStrictlySortedAccordingToGivenComparator(1, actual, comparisonStrategy.getComparator()));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_has_some_not_mutually_comparable_elements() {
+    AssertionInfo info = someInfo();
+    List<Object> actual = newArrayList();
+    actual.add("bar");
+    actual.add(new Integer(5));
+    try {
+      iterables.assertIsStrictlySorted(info, actual);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldHaveMutuallyComparableElements(actual));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+}
@@ -80,6 +80,24 @@ public class Iterables_assertIsSubsetOf_Test extends IterablesBaseTest {
     iterables.assertIsSubsetOf(someInfo(), actual, newArrayList("Yoda", "Yoda", "C-3PO", "C-3PO", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_actual_arrays_are_equal_by_content_to_values() {
+    List<int[]> actualArrays = newArrayList(new int[] { 1, 2 }, new int[] { 3 });
+    iterables.assertIsSubsetOf(someInfo(), actualArrays, newArrayList(new int[] { 3 }, new int[] { 1, 2 }));
+  }
+
+  @Test
+  public void should_pass_if_large_actual_is_subset_of_large_values() {
+    List<Integer> actualNumbers = newArrayList();
+    List<Integer> values = newArrayList();
+    for (int i = 0; i < 20000; i++) {
+      actualNumbers.add(2 * i);
+      values.add(i);
+      values.add(2 * i);
+    }
+    iterables.assertIsSubsetOf(someInfo(), actualNumbers, values);
+  }
+
   @Test
   public void should_throw_error_if_set_is_null() {
     actual = newArrayList("Yoda", "Luke");
@@ -109,6 +127,21 @@ public class Iterables_assertIsSubsetOf_Test extends IterablesBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_fail_reporting_extra_elements_in_actual_order() {
+    AssertionInfo info = someInfo();
+    actual = newArrayList("Yoda", "Luke", "Leia", "Han");
+    List<String> values = newArrayList("Luke", "Obi-Wan");
+    List<String> extra = newArrayList("Yoda", "Leia", "Han");
+    try {
+      iterables.assertIsSubsetOf(info, actual, values);
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeSubsetOf(actual, values, extra));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -21,6 +21,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.LinkedList;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
@@ -49,6 +50,11 @@ public class Lists_assertIsSorted_Test extends ListsBaseTest {
     listsWithCaseInsensitiveComparisonStrategy.assertIsSorted(someInfo(), actual);
   }
 
+  @Test
+  public void should_pass_if_actual_is_a_sorted_linked_list() {
+    lists.assertIsSorted(someInfo(), new LinkedList<>(actual));
+  }
+
   @Test
   public void should_pass_if_actual_is_empty() {
     lists.assertIsSorted(someInfo(), newArrayList());
@@ -26,6 +26,7 @@ import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.mockito.Mockito.verify;
 
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -149,6 +150,31 @@ public class Maps_assertContainsExactly_Test extends MapsBaseTest {
     shouldHaveThrown(AssertionError.class);
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  public void should_fail_if_actual_contains_array_key_equal_to_entry_key_but_not_the_same_instance() throws Exception {
+    AssertionInfo info = someInfo();
+    Map<int[], String> arrayKeyed = new LinkedHashMap<>();
+    arrayKeyed.put(new int[] { 1 }, "one");
+    MapEntry<int[], String> expected = entry(new int[] { 1 }, "one");
+    try {
+      // HashMap compares array keys by identity
+      maps.assertContainsExactly(info, arrayKeyed, expected);
+    } catch (AssertionError e) {
+      return;
+    }
+    shouldHaveThrown(AssertionError.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void should_pass_if_identity_map_contains_given_key_instances() throws Exception {
+    Map<String, String> identityActual = new IdentityHashMap<>();
+    String name = new String("name");
+    identityActual.put(name, "Yoda");
+    maps.assertContainsExactly(someInfo(), identityActual, entry(name, "Yoda"));
+  }
+
   @SafeVarargs
   private static Map<String, String> newLinkedHashMap(MapEntry<String, String>... entries) {
     LinkedHashMap<String, String> result = new LinkedHashMap<>();
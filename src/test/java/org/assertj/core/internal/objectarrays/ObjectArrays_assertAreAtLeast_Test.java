@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.objectarrays;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ElementsShouldBeAtLeast.elementsShouldBeAtLeast;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
@@ -20,8 +21,12 @@ import static org.assertj.core.util.Arrays.array;
 
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
+import org.assertj.core.condition.JediCondition;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.ObjectArraysWithConditionBaseTest;
 import org.junit.Test;
@@ -73,4 +78,22 @@ public class ObjectArrays_assertAreAtLeast_Test extends ObjectArraysWithConditio
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_not_evaluate_remaining_elements_once_condition_is_satisfied_enough() {
+    EvaluationRecordingJediCondition recordingJedi = new EvaluationRecordingJediCondition();
+    actual = array("Yoda", "Leia", "Luke", "Obiwan", "Solo");
+    arrays.assertAreAtLeast(someInfo(), actual, 2, recordingJedi);
+    assertThat(recordingJedi.evaluated).containsExactly("Yoda", "Leia", "Luke");
+  }
+
+  private static class EvaluationRecordingJediCondition extends JediCondition {
+    private final List<String> evaluated = new ArrayList<>();
+
+    @Override
+    public boolean matches(String value) {
+      evaluated.add(value);
+      return super.matches(value);
+    }
+  }
+
 }
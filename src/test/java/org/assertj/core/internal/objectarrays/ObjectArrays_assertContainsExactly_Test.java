@@ -103,6 +103,25 @@ public class ObjectArrays_assertContainsExactly_Test extends ObjectArraysBaseTes
 	failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_contains_given_duplicated_values_exactly() {
+	actual = array("Luke", "Luke", "Yoda");
+	arrays.assertContainsExactly(someInfo(), actual, array("Luke", "Luke", "Yoda"));
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_given_duplicated_values_but_in_different_order() {
+	AssertionInfo info = someInfo();
+	actual = array("Luke", "Yoda", "Luke");
+	try {
+	  arrays.assertContainsExactly(info, actual, array("Luke", "Luke", "Yoda"));
+	} catch (AssertionError e) {
+	  verify(failures).failure(info, elementsDifferAtIndex("Yoda", "Luke", 1));
+	  return;
+	}
+	failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
   @Test
   public void should_fail_if_actual_contains_all_given_values_but_size_differ() {
 	AssertionInfo info = someInfo();
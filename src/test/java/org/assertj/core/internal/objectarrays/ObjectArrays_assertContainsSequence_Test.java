@@ -59,6 +59,12 @@ public class ObjectArrays_assertContainsSequence_Test extends ObjectArraysBaseTe
     arrays.assertContainsSequence(someInfo(), actual, array("Yoda", "Luke", "Obi-Wan"));
   }
 
+  @Test
+  public void should_pass_if_actual_contains_sequence_overlapping_a_partial_sequence() {
+    actual = array("Yoda", "Luke", "Yoda", "Luke", "Yoda", "Leia");
+    arrays.assertContainsSequence(someInfo(), actual, array("Yoda", "Luke", "Yoda", "Leia"));
+  }
+
   @Test
   public void should_pass_if_actual_and_given_values_are_empty() {
     actual = new String[0];
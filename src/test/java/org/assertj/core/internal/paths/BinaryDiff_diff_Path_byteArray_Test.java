@@ -0,0 +1,72 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, byte[])}</code> with files of a zip file system, which can't be
+ * converted to {@link java.io.File}s.
+ */
+public class BinaryDiff_diff_Path_byteArray_Test {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private BinaryDiff binaryDiff;
+  private FileSystem zipFileSystem;
+  private Path actual;
+
+  @Before
+  public void setUp() throws IOException {
+	binaryDiff = new BinaryDiff();
+	URI zip = URI.create("jar:" + folder.getRoot().toPath().resolve("entries.zip").toUri());
+	zipFileSystem = FileSystems.newFileSystem(zip, Collections.singletonMap("create", "true"));
+	actual = Files.write(zipFileSystem.getPath("actual.bin"), new byte[] { 'a', 'b', 'c' });
+  }
+
+  @After
+  public void tearDown() throws IOException {
+	zipFileSystem.close();
+  }
+
+  @Test
+  public void should_return_no_diff_if_entry_has_expected_content() throws IOException {
+	assertThat(binaryDiff.diff(actual, new byte[] { 'a', 'b', 'c' }).hasNoDiff()).isTrue();
+  }
+
+  @Test
+  public void should_return_diff_if_entry_does_not_have_expected_content() throws IOException {
+	BinaryDiffResult result = binaryDiff.diff(actual, new byte[] { 'a', 'b', 'd' });
+	assertThat(result.hasNoDiff()).isFalse();
+	assertThat(result.offset).isEqualTo(2);
+	assertThat(result.expected).isEqualTo("0x64");
+	assertThat(result.actual).isEqualTo("0x63");
+  }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.assertj.core.internal.Diff;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for <code>{@link Diff#diff(Path, Path)}</code> and <code>{@link Diff#diff(Path, String, Charset)}</code> with
+ * files of a zip file system, which can't be converted to {@link java.io.File}s.
+ */
+public class Diff_diff_Path_Test {
+
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Diff diff;
+  private FileSystem zipFileSystem;
+
+  @Before
+  public void setUp() throws IOException {
+	diff = new Diff();
+	URI zip = URI.create("jar:" + folder.getRoot().toPath().resolve("entries.zip").toUri());
+	zipFileSystem = FileSystems.newFileSystem(zip, Collections.singletonMap("create", "true"));
+  }
+
+  @After
+  public void tearDown() throws IOException {
+	zipFileSystem.close();
+  }
+
+  @Test
+  public void should_return_empty_diff_list_if_entries_have_equal_content() throws IOException {
+	Path actual = entry("actual.txt", "line0\nline1");
+	Path expected = entry("expected.txt", "line0\nline1");
+	assertThat(diff.diff(actual, expected)).isEmpty();
+  }
+
+  @Test
+  public void should_return_diffs_if_entries_do_not_have_equal_content() throws IOException {
+	Path actual = entry("actual.txt", "line0\nline_1");
+	Path expected = entry("expected.txt", "line0\nline1");
+	assertThat(diff.diff(actual, expected)).containsExactly("line:<2>, expected:<line1> but was:<line_1>");
+  }
+
+  @Test
+  public void should_return_diffs_if_entries_of_same_size_do_not_have_equal_content() throws IOException {
+	Path actual = entry("actual.txt", "abc");
+	Path expected = entry("expected.txt", "abd");
+	assertThat(diff.diff(actual, expected)).containsExactly("line:<1>, expected:<abd> but was:<abc>");
+  }
+
+  @Test
+  public void should_return_empty_diff_list_if_entry_and_string_have_equal_content() throws IOException {
+	Path actual = entry("actual.txt", "Touché\nline1");
+	assertThat(diff.diff(actual, "Touché\nline1", UTF8)).isEmpty();
+  }
+
+  @Test
+  public void should_return_diffs_if_entry_and_string_do_not_have_equal_content() throws IOException {
+	Path actual = entry("actual.txt", "line0\nline1");
+	assertThat(diff.diff(actual, "line0", UTF8)).containsExactly("line:<2>, expected:<EOF> but was:<line1>");
+  }
+
+  private Path entry(String name, String content) throws IOException {
+	return Files.write(zipFileSystem.getPath(name), content.getBytes(UTF8));
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldBeReadable.shouldBeReadable;
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasDigest(AssertionInfo, Path, String, byte[])}</code> and
+ * <code>{@link Paths#assertHasDigest(AssertionInfo, Path, String, String)}</code>.
+ */
+public class Paths_assertHasDigest_Test extends PathsBaseTest {
+
+  private static Path path;
+  private static byte[] pathDigest;
+
+  @BeforeClass
+  public static void setUpOnce() throws Exception {
+	path = new File("src/test/resources/actual_file.txt").toPath();
+	pathDigest = MessageDigest.getInstance("SHA-256").digest(java.nio.file.Files.readAllBytes(path));
+  }
+
+  @Test
+  public void should_throw_error_if_algorithm_is_not_supported() {
+	thrown.expectIllegalArgumentException("Unable to find digest implementation for: <FOO>");
+	paths.assertHasDigest(someInfo(), path, "FOO", pathDigest);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_hexadecimal() {
+	thrown.expectIllegalArgumentException("The expected digest <abc> is not a valid hexadecimal string");
+	paths.assertHasDigest(someInfo(), path, "SHA-256", "abc");
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+	thrown.expectAssertionError(actualIsNull());
+	paths.assertHasDigest(someInfo(), null, "SHA-256", pathDigest);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_not_a_readable_file() {
+	AssertionInfo info = someInfo();
+	when(nioFilesWrapper.exists(path)).thenReturn(true);
+	when(nioFilesWrapper.isReadable(path)).thenReturn(false);
+	try {
+	  paths.assertHasDigest(info, path, "SHA-256", pathDigest);
+	} catch (AssertionError e) {
+	  verify(failures).failure(info, shouldBeReadable(path));
+	  return;
+	}
+	failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_path_has_expected_digest() {
+	when(nioFilesWrapper.exists(path)).thenReturn(true);
+	when(nioFilesWrapper.isReadable(path)).thenReturn(true);
+	paths.assertHasDigest(someInfo(), path, "SHA-256", pathDigest);
+  }
+
+  @Test
+  public void should_fail_if_path_does_not_have_expected_digest() {
+	when(nioFilesWrapper.exists(path)).thenReturn(true);
+	when(nioFilesWrapper.isReadable(path)).thenReturn(true);
+	AssertionInfo info = someInfo();
+	String expected = "00000000000000000000000000000000000000000000000000000000000000FF";
+	try {
+	  paths.assertHasDigest(info, path, "SHA-256", expected);
+	} catch (AssertionError e) {
+	  byte[] expectedDigest = new byte[32];
+	  expectedDigest[31] = (byte) 0xFF;
+	  verify(failures).failure(info, shouldHaveDigest(path, new DigestDiff("SHA-256", expectedDigest, pathDigest)));
+	  return;
+	}
+	failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+}
@@ -0,0 +1,89 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static org.assertj.core.error.ShouldHaveDigest.shouldHaveSameDigest;
+import static org.assertj.core.test.TestData.someInfo;
+import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.DigestDiff;
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for <code>{@link Paths#assertHasSameDigestAs(AssertionInfo, Path, String, Path)}</code>.
+ */
+public class Paths_assertHasSameDigestAs_Test extends PathsBaseTest {
+
+  private static final Path ACTUAL = new File("src/test/resources/actual_file.txt").toPath();
+  private static final Path EXPECTED = new File("src/test/resources/expected_file.txt").toPath();
+
+  @Before
+  public void mockReadableFiles() {
+	when(nioFilesWrapper.exists(ACTUAL)).thenReturn(true);
+	when(nioFilesWrapper.isReadable(ACTUAL)).thenReturn(true);
+	when(nioFilesWrapper.isReadable(EXPECTED)).thenReturn(true);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_null() {
+	thrown.expectNullPointerException("The given Path to compare actual digest to should not be null");
+	paths.assertHasSameDigestAs(someInfo(), ACTUAL, "MD5", null);
+  }
+
+  @Test
+  public void should_throw_error_if_expected_is_not_readable() {
+	when(nioFilesWrapper.isReadable(EXPECTED)).thenReturn(false);
+	thrown.expectIllegalArgumentException(String.format("The given Path <%s> to compare actual digest to should be readable",
+	                                                    EXPECTED));
+	paths.assertHasSameDigestAs(someInfo(), ACTUAL, "MD5", EXPECTED);
+  }
+
+  @Test
+  public void should_fail_if_actual_is_null() {
+	thrown.expectAssertionError(actualIsNull());
+	paths.assertHasSameDigestAs(someInfo(), null, "MD5", EXPECTED);
+  }
+
+  @Test
+  public void should_pass_if_paths_have_same_digest() {
+	paths.assertHasSameDigestAs(someInfo(), ACTUAL, "MD5", ACTUAL);
+  }
+
+  @Test
+  public void should_fail_if_paths_do_not_have_same_digest() throws Exception {
+	AssertionInfo info = someInfo();
+	try {
+	  paths.assertHasSameDigestAs(info, ACTUAL, "MD5", EXPECTED);
+	} catch (AssertionError e) {
+	  DigestDiff diff = new DigestDiff("MD5", md5Of(EXPECTED), md5Of(ACTUAL));
+	  verify(failures).failure(info, shouldHaveSameDigest(ACTUAL, EXPECTED, diff));
+	  return;
+	}
+	failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  private static byte[] md5Of(Path path) throws Exception {
+	return MessageDigest.getInstance("MD5").digest(java.nio.file.Files.readAllBytes(path));
+  }
+}
@@ -49,6 +49,23 @@ public class Strings_assertContainsOnlyOnce_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_count_overlapping_occurrences() {
+    AssertionInfo info = someInfo();
+    try {
+      strings.assertContainsOnlyOnce(info, "aaa", "aa");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldContainOnlyOnce("aaa", "aa", 2));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_pass_if_actual_and_given_string_are_empty() {
+    strings.assertContainsOnlyOnce(someInfo(), "", "");
+  }
+
   @Test
   public void should_fail_if_actual_contains_sequence_only_once_but_in_different_case() {
     AssertionInfo info = someInfo();
@@ -129,4 +129,8 @@ public class Strings_assertContainsSequence_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_contains_overlapping_values_in_given_order() {
+    strings.assertContainsSequence(someInfo(), "Yoda", array("Yo", "od", "da", "a"));
+  }
 }
@@ -22,6 +22,8 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import static org.mockito.Mockito.verify;
 
+import java.nio.CharBuffer;
+
 import org.junit.Test;
 
 import org.assertj.core.api.AssertionInfo;
@@ -130,4 +132,10 @@ public class Strings_assertContains_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_search_actual_char_sequence_without_converting_it() {
+    strings.assertContains(someInfo(), new StringBuilder("Yoda"), "od");
+    strings.assertContains(someInfo(), CharBuffer.wrap("Yoda"), new StringBuilder("da"));
+    strings.assertContains(someInfo(), new StringBuilder("Yoda"), "");
+  }
 }
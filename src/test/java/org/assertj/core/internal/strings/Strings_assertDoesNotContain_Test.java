@@ -13,10 +13,13 @@
 package org.assertj.core.internal.strings;
 
 import static org.assertj.core.error.ShouldNotContainCharSequence.shouldNotContain;
+import static org.assertj.core.test.ErrorMessages.arrayOfValuesToLookForIsEmpty;
 import static org.assertj.core.test.ErrorMessages.charSequenceToLookForIsNull;
 import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 
 import static org.mockito.Mockito.verify;
@@ -28,7 +31,7 @@ import org.junit.Test;
 
 
 /**
- * Tests for <code>{@link Strings#assertDoesNotContain(AssertionInfo, CharSequence, CharSequence)}</code>.
+ * Tests for <code>{@link Strings#assertDoesNotContain(AssertionInfo, CharSequence, CharSequence...)}</code>.
  * 
  * @author Alex Ruiz
  */
@@ -80,4 +83,46 @@ public class Strings_assertDoesNotContain_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_does_not_contain_any_of_given_values() {
+    strings.assertDoesNotContain(someInfo(), "Yoda", "Lu", "ke", "yoda");
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_some_of_given_values() {
+    AssertionInfo info = someInfo();
+    try {
+      strings.assertDoesNotContain(info, "Yoda", "Lu", "Yo", "ke", "da");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotContain("Yoda", array("Lu", "Yo", "ke", "da"), newLinkedHashSet("Yo", "da"),
+                                                      comparisonStrategy));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_fail_if_actual_contains_some_of_given_values_according_to_custom_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    try {
+      stringsWithCaseInsensitiveComparisonStrategy.assertDoesNotContain(info, "Yoda", "Lu", "yo");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldNotContain("Yoda", array("Lu", "yo"), newLinkedHashSet("yo"),
+                                                      comparisonStrategy));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
+
+  @Test
+  public void should_throw_error_if_one_of_given_values_is_null() {
+    thrown.expectNullPointerException(charSequenceToLookForIsNull());
+    strings.assertDoesNotContain(someInfo(), "Yoda", "Lu", null);
+  }
+
+  @Test
+  public void should_throw_error_if_given_values_is_empty() {
+    thrown.expectIllegalArgumentException(arrayOfValuesToLookForIsEmpty());
+    strings.assertDoesNotContain(someInfo(), "Yoda", new String[0]);
+  }
 }
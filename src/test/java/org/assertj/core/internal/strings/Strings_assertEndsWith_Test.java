@@ -20,6 +20,8 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 
 import static org.mockito.Mockito.verify;
 
+import java.nio.CharBuffer;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Strings;
 import org.assertj.core.internal.StringsBaseTest;
@@ -84,4 +86,22 @@ public class Strings_assertEndsWith_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_char_sequence_ends_with_suffix() {
+    strings.assertEndsWith(someInfo(), new StringBuilder("Yoda"), "da");
+    strings.assertEndsWith(someInfo(), CharBuffer.wrap("Yoda"), "");
+  }
+
+  @Test
+  public void should_fail_if_actual_char_sequence_is_shorter_than_suffix() {
+    AssertionInfo info = someInfo();
+    CharSequence actual = new StringBuilder("da");
+    try {
+      strings.assertEndsWith(info, actual, "Yoda");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldEndWith(actual, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
@@ -128,4 +128,22 @@ public class Strings_assertEqualsIgnoringCase_Test extends StringsBaseTest {
   public void should_pass_if_both_Strings_are_equal_ignoring_case_whatever_custom_comparison_strategy_is() {
     stringsWithCaseInsensitiveComparisonStrategy.assertEqualsIgnoringCase(someInfo(), "Yoda", "YODA");
   }
+
+  @Test
+  public void should_pass_if_both_char_sequences_are_equal_ignoring_case() {
+    strings.assertEqualsIgnoringCase(someInfo(), new StringBuilder("Yoda"), "YODA");
+  }
+
+  @Test
+  public void should_fail_if_char_sequences_have_different_lengths() {
+    AssertionInfo info = someInfo();
+    CharSequence actual = new StringBuilder("Yoda");
+    try {
+      strings.assertEqualsIgnoringCase(info, actual, "Yod");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldBeEqual(actual, "Yod"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
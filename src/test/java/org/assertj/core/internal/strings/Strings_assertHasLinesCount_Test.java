@@ -18,6 +18,8 @@ import static org.assertj.core.test.TestData.someInfo;
 import static org.assertj.core.test.TestFailures.failBecauseExpectedAssertionErrorWasNotThrown;
 import static org.assertj.core.util.FailureMessages.actualIsNull;
 
+import java.nio.CharBuffer;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.StringsBaseTest;
 import org.junit.Test;
@@ -78,4 +80,19 @@ public class Strings_assertHasLinesCount_Test extends StringsBaseTest {
   public void should_pass_if_lines_count_of_actual_is_equal_to_expected_lines_count_whatever_custom_comparison_strategy_is() {
     stringsWithCaseInsensitiveComparisonStrategy.assertHasLineCount(someInfo(), "Begin" + LINE_SEPARATOR + "End", 2);
   }
+
+  @Test
+  public void should_count_lines_as_a_reader_reads_them() {
+    strings.assertHasLineCount(someInfo(), "", 0);
+    strings.assertHasLineCount(someInfo(), "\n", 1);
+    strings.assertHasLineCount(someInfo(), "Begin\r\n", 1);
+    strings.assertHasLineCount(someInfo(), "Begin\r\rEnd", 3);
+    strings.assertHasLineCount(someInfo(), "Begin\n\r\nEnd\r", 3);
+  }
+
+  @Test
+  public void should_count_lines_of_any_char_sequence() {
+    strings.assertHasLineCount(someInfo(), new StringBuilder("Begin\nMiddle\r\nEnd"), 3);
+    strings.assertHasLineCount(someInfo(), CharBuffer.wrap("Begin\nEnd\n"), 2);
+  }
 }
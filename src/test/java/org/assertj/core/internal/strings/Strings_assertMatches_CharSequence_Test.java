@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.strings;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.error.ShouldMatchPattern.shouldMatch;
 import static org.assertj.core.test.ErrorMessages.regexPatternIsNull;
 import static org.assertj.core.test.TestData.*;
@@ -110,4 +111,17 @@ public class Strings_assertMatches_CharSequence_Test extends StringsBaseTest {
   public void should_pass_if_actual_matches_Pattern_whatever_custom_comparison_strategy_is() {
     stringsWithCaseInsensitiveComparisonStrategy.assertMatches(someInfo(), actual, "Yod.*");
   }
+
+  @Test
+  public void should_compile_regular_expression_once() {
+    Strings.clearPatternCache();
+    strings.assertMatches(someInfo(), actual, "Yo.a");
+    strings.assertMatches(someInfo(), "Yota", "Yo.a");
+    strings.assertDoesNotMatch(someInfo(), "Luke", "Yo.a");
+    assertThat(Strings.patternCacheMissCount()).isEqualTo(1);
+    assertThat(Strings.patternCacheHitCount()).isEqualTo(2);
+    Strings.clearPatternCache();
+    assertThat(Strings.patternCacheMissCount()).isZero();
+    assertThat(Strings.patternCacheHitCount()).isZero();
+  }
 }
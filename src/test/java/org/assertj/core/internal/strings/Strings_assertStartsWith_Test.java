@@ -20,6 +20,8 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 
 import static org.mockito.Mockito.verify;
 
+import java.nio.CharBuffer;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Strings;
 import org.assertj.core.internal.StringsBaseTest;
@@ -85,4 +87,22 @@ public class Strings_assertStartsWith_Test extends StringsBaseTest {
     failBecauseExpectedAssertionErrorWasNotThrown();
   }
 
+  @Test
+  public void should_pass_if_actual_char_sequence_starts_with_prefix() {
+    strings.assertStartsWith(someInfo(), new StringBuilder("Yoda"), "Yo");
+    strings.assertStartsWith(someInfo(), CharBuffer.wrap("Yoda"), new StringBuilder("Yoda"));
+  }
+
+  @Test
+  public void should_fail_if_actual_char_sequence_is_shorter_than_prefix() {
+    AssertionInfo info = someInfo();
+    CharSequence actual = new StringBuilder("Yo");
+    try {
+      strings.assertStartsWith(info, actual, "Yoda");
+    } catch (AssertionError e) {
+      verify(failures).failure(info, shouldStartWith(actual, "Yoda"));
+      return;
+    }
+    failBecauseExpectedAssertionErrorWasNotThrown();
+  }
 }
@@ -18,13 +18,17 @@ import static org.junit.rules.ExpectedException.none;
 
 import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 /**
- * Tests for {@link Files#contentOf(File, Charset)} and {@link Files#contentOf(File, String)}.
+ * Tests for {@link Files#contentOf(File, Charset)}, {@link Files#contentOf(File, String)},
+ * {@link Files#contentOf(Path, Charset)} and {@link Files#contentOf(Path, String)}.
  * 
  * @author Olivier Michallat
  */
@@ -32,6 +36,9 @@ public class Files_contentOf_Test {
   @Rule
   public ExpectedException thrown = none();
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private final File sampleFile = new File("src/test/resources/utf8.txt");
   private final String expectedContent = "A text file encoded in UTF-8, with diacritics:\né à";
 
@@ -67,4 +74,30 @@ public class Files_contentOf_Test {
   public void should_load_file_using_charset_name() {
     assertEquals(expectedContent, Files.contentOf(sampleFile, "UTF-8"));
   }
+
+  @Test
+  public void should_load_path_using_charset() {
+    assertEquals(expectedContent, Files.contentOf(sampleFile.toPath(), Charset.forName("UTF-8")));
+  }
+
+  @Test
+  public void should_load_path_using_charset_name() {
+    assertEquals(expectedContent, Files.contentOf(sampleFile.toPath(), "UTF-8"));
+  }
+
+  @Test
+  public void should_throw_exception_if_path_not_found() {
+    thrown.expect(FilesException.class);
+    Files.contentOf(new File("missing.txt").toPath(), Charset.defaultCharset());
+  }
+
+  @Test
+  public void should_load_file_larger_than_read_buffers() throws Exception {
+    char[] chars = new char[100000];
+    Arrays.fill(chars, '\u00e9');
+    String content = new String(chars);
+    Path path = temporaryFolder.newFile().toPath();
+    java.nio.file.Files.write(path, content.getBytes("UTF-8"));
+    assertEquals(content, Files.contentOf(path, "UTF-8"));
+  }
 }
@@ -15,18 +15,22 @@ package org.assertj.core.util;
 import org.assertj.core.test.ExpectedException;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.test.ExpectedException.none;
 import static org.assertj.core.util.Files.linesOf;
 import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Lists.emptyList;
 
 /**
- * Tests for {@link Files#linesOf(File, Charset)} and {@link Files#linesOf(File, String)}.
+ * Tests for {@link Files#linesOf(File, Charset)}, {@link Files#linesOf(File, String)}, {@link Files#linesOf(Path, Charset)}
+ * and {@link Files#linesOf(Path, String)}.
  * 
  * @author Mateusz Haligowski
  */
@@ -42,6 +46,9 @@ public class Files_linesOf_Test {
   @Rule
   public ExpectedException thrown = none();
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @Test
   public void should_throw_exception_when_charset_is_null() {
     Charset charset = null;
@@ -93,4 +100,32 @@ public class Files_linesOf_Test {
   public void should_pass_if_mac_file_is_split_into_lines_using_charset() {
     assertThat(linesOf(SAMPLE_MAC_FILE, UTF_8)).isEqualTo(EXPECTED_CONTENT);
   }
+
+  @Test
+  public void should_pass_if_path_is_split_into_lines() {
+    assertThat(linesOf(SAMPLE_WIN_FILE.toPath(), Charset.forName(UTF_8))).isEqualTo(EXPECTED_CONTENT);
+  }
+
+  @Test
+  public void should_pass_if_path_is_split_into_lines_using_charset() {
+    assertThat(linesOf(SAMPLE_MAC_FILE.toPath(), UTF_8)).isEqualTo(EXPECTED_CONTENT);
+  }
+
+  @Test
+  public void should_throw_exception_if_path_not_found() {
+    thrown.expect(FilesException.class);
+    linesOf(new File("missing.txt").toPath(), Charset.defaultCharset());
+  }
+
+  @Test
+  public void should_split_mixed_line_endings_and_keep_empty_lines() throws Exception {
+    Path path = temporaryFolder.newFile().toPath();
+    java.nio.file.Files.write(path, "a\r\n\nb\r\rc\n".getBytes(UTF_8));
+    assertThat(linesOf(path, UTF_8)).containsExactly("a", "", "b", "", "c");
+  }
+
+  @Test
+  public void should_return_no_lines_for_empty_file() throws Exception {
+    assertThat(linesOf(temporaryFolder.newFile(), UTF_8)).isEqualTo(emptyList());
+  }
 }
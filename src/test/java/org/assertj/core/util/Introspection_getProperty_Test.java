@@ -14,9 +14,11 @@ package org.assertj.core.util;
 
 import static junit.framework.Assert.*;
 import static org.assertj.core.util.introspection.Introspection.getProperty;
+import static org.assertj.core.util.introspection.Introspection.getReadMethodHandle;
 
 import java.beans.PropertyDescriptor;
 
+import org.assertj.core.util.introspection.Introspection;
 import org.assertj.core.util.introspection.IntrospectionError;
 import org.junit.*;
 
@@ -58,4 +60,38 @@ public class Introspection_getProperty_Test {
     }
   }
 
+  @Test
+  public void should_cache_property_descriptors() {
+    assertSame(getProperty("age", judy), getProperty("age", new Employee(5000.0, 25)));
+  }
+
+  @Test
+  public void should_introspect_again_after_cache_is_cleared() {
+    getProperty("age", judy);
+    Introspection.clearCache();
+    assertEquals("age", getProperty("age", judy).getName());
+  }
+
+  @Test
+  public void should_get_descriptor_for_property_if_cache_max_size_is_zero() {
+    Introspection.setCacheMaxSize(0);
+    try {
+      assertEquals("age", getProperty("age", judy).getName());
+    } finally {
+      Introspection.setCacheMaxSize(Introspection.DEFAULT_CACHE_MAX_SIZE);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_if_cache_max_size_is_negative() {
+    Introspection.setCacheMaxSize(-1);
+  }
+
+  @Test
+  public void should_invoke_read_method_through_method_handle() throws Throwable {
+    PropertyDescriptor propertyDescriptor = getProperty("age", judy);
+    Object age = (Object) getReadMethodHandle(propertyDescriptor, judy).invokeExact((Object) judy);
+    assertEquals(31, age);
+  }
+
 }
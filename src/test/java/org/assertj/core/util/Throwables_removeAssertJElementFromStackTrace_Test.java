@@ -12,6 +12,7 @@
  */
 package org.assertj.core.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -34,6 +35,36 @@ public class Throwables_removeAssertJElementFromStackTrace_Test {
     }
   }
 
+  @Test
+  public void should_remove_constructor_element_used_by_assertj_to_build_errors() {
+    AssertJThrowable throwable = new AssertJThrowable();
+    StackTraceElement reflection = element("sun.reflect.NativeConstructorAccessorImpl");
+    StackTraceElement test = element("examples.StackTraceFilterExample");
+    throwable.setStackTrace(new StackTraceElement[] { reflection, element("java.lang.reflect.Constructor"),
+        element("org.assertj.core.error.ConstructorInvoker"), element("org.assertj.core.error.ShouldBeEqual"), test,
+        element("java.lang.reflect.Constructor"), test });
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertArrayEquals(new StackTraceElement[] { reflection, test, element("java.lang.reflect.Constructor"), test },
+                      throwable.getStackTrace());
+  }
+
+  @Test
+  public void should_filter_deep_stack_traces() {
+    StackTraceElement[] stackTrace = new StackTraceElement[3000];
+    for (int i = 0; i < stackTrace.length; i++) {
+      stackTrace[i] = element(i % 2 == 0 ? "org.assertj.core.api.AbstractAssert" : "examples.StackTraceFilterExample");
+    }
+    AssertJThrowable throwable = new AssertJThrowable();
+    throwable.setStackTrace(stackTrace);
+    Throwables.removeAssertJRelatedElementsFromStackTrace(throwable);
+    assertTrue(throwable.getStackTrace().length == 1500);
+    assertFalse(hasStackTraceElementContainingAssertJClass(throwable));
+  }
+
+  private static StackTraceElement element(String className) {
+    return new StackTraceElement(className, "method", className + ".java", 1);
+  }
+
   private static boolean hasStackTraceElementContainingAssertJClass(AssertJThrowable throwable) {
     StackTraceElement[] stackTrace = throwable.getStackTrace();
     for (StackTraceElement stackTraceElement : stackTrace) {
@@ -0,0 +1,58 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Field;
+
+import org.assertj.core.test.Jedi;
+import org.junit.Test;
+
+public class FieldUtils_getField_Test {
+
+  @Test
+  public void should_return_the_same_field_for_the_same_class_and_name() throws Exception {
+	Field field = FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", true);
+	assertThat(field.getName()).isEqualTo("strangeNotReadablePrivateField");
+	assertThat(FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", true)).isSameAs(field);
+  }
+
+  @Test
+  public void should_return_null_for_unknown_field_each_time() throws Exception {
+	assertThat(FieldUtils.getField(Jedi.class, "unknown", true)).isNull();
+	assertThat(FieldUtils.getField(Jedi.class, "unknown", true)).isNull();
+  }
+
+  @Test
+  public void should_fail_each_time_a_private_field_is_read_without_forcing_access() throws Exception {
+	for (int i = 0; i < 2; i++) {
+	  try {
+		FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", false);
+		fail("IllegalAccessException expected");
+	  } catch (IllegalAccessException e) {
+		assertThat(e).hasMessageContaining("strangeNotReadablePrivateField");
+	  }
+	}
+  }
+
+  @Test
+  public void should_look_up_field_again_after_cache_is_cleared() throws Exception {
+	Field field = FieldUtils.getField(Jedi.class, "lightSaberColor", false);
+	Introspection.clearCache();
+	Field fieldAfterClear = FieldUtils.getField(Jedi.class, "lightSaberColor", false);
+	assertThat(fieldAfterClear).isNotSameAs(field).isEqualTo(field);
+  }
+
+}